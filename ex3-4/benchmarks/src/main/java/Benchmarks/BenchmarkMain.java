@@ -0,0 +1,32 @@
+package Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkMain runs the JMH benchmarks with the gc profiler, that gives the allocation rate and the bytes allocated
+ * by every operation (gc.alloc.rate.norm) next to the time. The arguments are the usual JMH ones, for example
+ * "Prim -p nodes=100000 -f 1"
+ */
+public class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    /**
+     * runs the benchmarks
+     *
+     * @param args are the JMH command line options
+     * @throws Exception if the options are wrong or a benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
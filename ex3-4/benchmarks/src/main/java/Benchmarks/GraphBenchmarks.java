@@ -0,0 +1,151 @@
+package Benchmarks;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import Graph.AbstractEdge;
+import Graph.Edge;
+import Graph.Graph;
+import Graph.GraphGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * GraphBenchmarks measures the operations of Graph on a random undirected labelled graph of every GraphGenerator
+ * model with the given number of nodes and about EDGES_PER_NODE edges per node. The lookups use nodes and edges
+ * picked before the measure, so the boxing of the nodes is not measured
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GraphBenchmarks {
+
+    /**
+     * the average number of edges of a node
+     */
+    static final int EDGES_PER_NODE = 8;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int nodes;
+
+    @Param({"GEOMETRIC", "GRID", "ERDOS_RENYI", "POWER_LAW"})
+    public String model;
+
+    private List<Edge<Integer, Float>> edges;
+    private Integer[] boxed;
+    private Graph<Integer, Float> graph;
+    private SplittableRandom random;
+
+    /**
+     * builds the edges and the graph once for every size and model
+     */
+    @Setup(Level.Trial)
+    public void build() {
+        edges = GraphGenerator.edges(GraphGenerator.Model.valueOf(model), nodes, (long) nodes * EDGES_PER_NODE / 2, 42);
+        boxed = new Integer[nodes];
+        for (int i = 0; i < nodes; i++) {
+            boxed[i] = i;
+        }
+        graph = new Graph<>(false, true, nodes);
+        graph.addNodes(List.of(boxed));
+        graph.addEdges(edges);
+        random = new SplittableRandom(7);
+    }
+
+    /**
+     * adds every node and every edge to an empty graph, one call at a time
+     *
+     * @return the graph
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 5, batchSize = 1)
+    public Graph<Integer, Float> addEdge() {
+        Graph<Integer, Float> empty = new Graph<>(false, true);
+        for (Integer node : boxed) {
+            empty.addNode(node);
+        }
+        for (AbstractEdge<Integer, Float> edge : edges) {
+            empty.addEdge(edge.getStart(), edge.getEnd(), edge.getLabel());
+        }
+        return empty;
+    }
+
+    /**
+     * goes through the neighbours of a random node
+     *
+     * @param blackhole takes the neighbours
+     */
+    @Benchmark
+    public void getNeighbours(Blackhole blackhole) {
+        for (Integer next : graph.getNeighbours(boxed[random.nextInt(nodes)])) {
+            blackhole.consume(next);
+        }
+    }
+
+    /**
+     * gets the label of a random edge
+     *
+     * @return the label
+     */
+    @Benchmark
+    public Float getLabel() {
+        AbstractEdge<Integer, Float> edge = edges.get(random.nextInt(edges.size()));
+        return graph.getLabel(edge.getStart(), edge.getEnd());
+    }
+
+    /**
+     * State with a new graph for every invocation, for the benchmarks that change the graph
+     */
+    @State(Scope.Thread)
+    public static class Fresh {
+        Graph<Integer, Float> graph;
+
+        /**
+         * builds a new graph
+         *
+         * @param parent is the state with the edges
+         */
+        @Setup(Level.Invocation)
+        public void build(GraphBenchmarks parent) {
+            graph = new Graph<>(false, true, parent.nodes);
+            graph.addNodes(List.of(parent.boxed));
+            graph.addEdges(parent.edges);
+        }
+    }
+
+    /**
+     * removes every node of the graph
+     *
+     * @param fresh is the graph to empty
+     * @return the empty graph
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 5, batchSize = 1)
+    public Graph<Integer, Float> removeNode(Fresh fresh) {
+        for (Integer node : boxed) {
+            fresh.graph.removeNode(node);
+        }
+        return fresh.graph;
+    }
+}
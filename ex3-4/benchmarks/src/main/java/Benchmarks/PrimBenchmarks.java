@@ -0,0 +1,68 @@
+package Benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import Graph.AbstractEdge;
+import Graph.Graph;
+import Graph.GraphGenerator;
+import Graph.Prim;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PrimBenchmarks measures Prim.minimumSpanningForest end to end with every engine on a random graph of every
+ * GraphGenerator model, a graph that is not connected gives a forest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class PrimBenchmarks {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int nodes;
+
+    @Param({"8"})
+    public int edgesPerNode;
+
+    @Param({"GEOMETRIC", "GRID", "ERDOS_RENYI", "POWER_LAW"})
+    public String model;
+
+    @Param({"LAZY", "PAIRING", "EAGER", "INDEXED", "BORUVKA", "KRUSKAL", "FILTER_KRUSKAL", "COMPONENTS"})
+    public String engine;
+
+    private Graph<Integer, Float> graph;
+    private Prim.Engine chosen;
+
+    /**
+     * builds the graph once for every size and model
+     */
+    @Setup(Level.Trial)
+    public void build() {
+        graph = GraphGenerator.graph(GraphGenerator.Model.valueOf(model), nodes, (long) nodes * edgesPerNode / 2, 42);
+        chosen = Prim.Engine.valueOf(engine);
+    }
+
+    /**
+     * finds the minimum spanning forest
+     *
+     * @return the forest
+     */
+    @Benchmark
+    public Collection<? extends AbstractEdge<Integer, Float>> minimumSpanningForest() {
+        return Prim.minimumSpanningForest(graph, chosen);
+    }
+}
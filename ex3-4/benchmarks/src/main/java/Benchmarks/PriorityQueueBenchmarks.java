@@ -0,0 +1,145 @@
+package Benchmarks;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import PriorityQueue.PriorityQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PriorityQueueBenchmarks measures the operations of PriorityQueue on a queue that holds size elements.
+ * The elements are longs with a random priority in the high bits and a sequence number in the low bits, so they are
+ * all different; the single operations keep the queue at the same size, push and drain build and empty a whole queue
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PriorityQueueBenchmarks {
+
+    private static final Comparator<Long> ORDER = Long::compare;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private PriorityQueue<Long> queue;
+    private long[] elements;
+    private SplittableRandom random;
+    private long sequence;
+
+    /**
+     * fills the queue before every iteration
+     */
+    @Setup(Level.Iteration)
+    public void fill() {
+        random = new SplittableRandom(42);
+        sequence = 0;
+        elements = new long[size];
+        queue = new PriorityQueue<>(ORDER);
+        for (int i = 0; i < size; i++) {
+            elements[i] = fresh();
+            queue.push(elements[i]);
+        }
+    }
+
+    /**
+     * gives a new element with a random priority
+     *
+     * @return the element
+     */
+    private long fresh() {
+        return (long) random.nextInt(size) << 32 | (sequence++ & 0xffffffffL);
+    }
+
+    /**
+     * pops the top and pushes a new element
+     *
+     * @return the popped element
+     */
+    @Benchmark
+    public Long popPush() {
+        Long top = queue.top();
+        queue.pop();
+        queue.push(fresh());
+        return top;
+    }
+
+    /**
+     * removes a random element and pushes a new one in its place
+     *
+     * @return true if the element was removed
+     */
+    @Benchmark
+    public boolean removePush() {
+        int i = random.nextInt(size);
+        boolean removed = queue.remove(elements[i]);
+        elements[i] = fresh();
+        queue.push(elements[i]);
+        return removed;
+    }
+
+    /**
+     * replaces a random element with a new one
+     *
+     * @return the new element
+     */
+    @Benchmark
+    public long substitutionPriority() {
+        int i = random.nextInt(size);
+        long next = fresh();
+        queue.substitutionPriority(elements[i], next);
+        elements[i] = next;
+        return next;
+    }
+
+    /**
+     * pushes size elements in an empty queue
+     *
+     * @return the queue
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 5, batchSize = 1)
+    public PriorityQueue<Long> push() {
+        PriorityQueue<Long> empty = new PriorityQueue<>(ORDER);
+        for (long element : elements) {
+            empty.push(element);
+        }
+        return empty;
+    }
+
+    /**
+     * pops every element of the queue, the queue is filled again before the next iteration
+     *
+     * @return the last popped element
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 5, batchSize = 1)
+    public Long drain() {
+        Long last = null;
+        while (!queue.empty()) {
+            last = queue.top();
+            queue.pop();
+        }
+        return last;
+    }
+}
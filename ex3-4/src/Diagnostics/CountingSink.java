@@ -0,0 +1,86 @@
+package Diagnostics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CountingSink counts the diagnostics of every kind without printing anything, a report is a single LongAdder
+ * increment so it's cheap also when many threads report at the same time
+ */
+public class CountingSink implements DiagnosticSink {
+    private final LongAdder[] counts;
+
+    /**
+     * constructor of the class, every count starts from zero
+     */
+    public CountingSink() {
+        counts = new LongAdder[Diagnostic.values().length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void report(Diagnostic diagnostic) {
+        counts[diagnostic.ordinal()].increment();
+    }
+
+    /**
+     * gets how many times a diagnostic was reported
+     *
+     * @param diagnostic is the kind of the diagnostic
+     * @return the number of reports
+     */
+    public long count(Diagnostic diagnostic) {
+        return counts[diagnostic.ordinal()].sum();
+    }
+
+    /**
+     * gets how many diagnostics were reported
+     *
+     * @return the number of reports of every kind
+     */
+    public long total() {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * gets the counts that are not zero
+     *
+     * @return the number of reports of every kind reported at least once
+     */
+    public Map<Diagnostic, Long> snapshot() {
+        Map<Diagnostic, Long> snapshot = new EnumMap<>(Diagnostic.class);
+        for (Diagnostic diagnostic : Diagnostic.values()) {
+            long count = count(diagnostic);
+            if (count != 0) {
+                snapshot.put(diagnostic, count);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * sets every count to zero
+     */
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+    }
+
+    /**
+     * get a string representation of the counts
+     *
+     * @return the counts that are not zero
+     */
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
@@ -0,0 +1,94 @@
+package Diagnostics;
+
+/**
+ * Diagnostic is the kind of an invalid input reported by the graphs, the edges and the queues
+ */
+public enum Diagnostic {
+    /**
+     * a null node was given to a graph
+     */
+    NULL_NODE("the element is null"),
+    /**
+     * the node is already in the graph
+     */
+    NODE_ALREADY_PRESENT("the element is already in the graph"),
+    /**
+     * the node is not in the graph
+     */
+    NODE_MISSING("the element is not in the graph"),
+    /**
+     * the edge is already in the graph
+     */
+    EDGE_ALREADY_PRESENT("the edge is already in the graph"),
+    /**
+     * the edge is not in the graph
+     */
+    EDGE_MISSING("the edge is not in the graph"),
+    /**
+     * an edge of a labelled graph has no label
+     */
+    LABEL_MISSING("the graph is labelled you need to add a label"),
+    /**
+     * an edge of an unlabelled graph has a label
+     */
+    LABEL_NOT_ALLOWED("the graph is not labelled you can't add a label"),
+    /**
+     * a label was asked to an unlabelled graph
+     */
+    NOT_LABELLED("the graph is not labelled"),
+    /**
+     * the start or the end of an edge is null
+     */
+    NULL_ENDPOINT("the start or the end of edge is null"),
+    /**
+     * the label of an edge is null, as in every edge of an unlabelled graph
+     */
+    NULL_LABEL("the edge's label is null or the graph is unlabelled"),
+    /**
+     * top or pop on an empty queue
+     */
+    QUEUE_EMPTY("Heap is empty, insert elements first"),
+    /**
+     * the element is null or it's already in the queue
+     */
+    ELEMENT_REJECTED("The element is null or the element is already in the heap"),
+    /**
+     * the element is null or it's not in the queue
+     */
+    ELEMENT_MISSING("Element not in the heap or the element is null"),
+    /**
+     * the key of the element is out of the range of the queue
+     */
+    KEY_OUT_OF_RANGE("The key of the element is out of range"),
+    /**
+     * increaseKey with an element that has an higher priority
+     */
+    HIGHER_PRIORITY("The new element has an higher priority, use decreaseKey"),
+    /**
+     * decreaseKey with an element that has a lower priority
+     */
+    LOWER_PRIORITY("The new element has a lower priority, use increaseKey"),
+    /**
+     * two heaps to meld share an element
+     */
+    HEAPS_SHARE_ELEMENT("The heaps share an element"),
+    /**
+     * the bucket engine of Prim was asked for labels that don't fit in the buckets
+     */
+    BUCKET_LABELS_NOT_SMALL_INTEGERS("The labels are not non-negative integers up to 2^24, using the lazy engine");
+
+    private final String message;
+
+    Diagnostic(String message) {
+        this.message = message;
+    }
+
+    /**
+     * gets the message of the diagnostic
+     *
+     * @return the message that describes the invalid input
+     */
+    public String message() {
+        return message;
+    }
+}
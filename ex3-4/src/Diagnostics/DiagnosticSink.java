@@ -0,0 +1,14 @@
+package Diagnostics;
+
+/**
+ * DiagnosticSink receives the diagnostics reported by the graphs, the edges and the queues.
+ * report is called on the thread that found the invalid input, so it must be cheap and thread-safe
+ */
+public interface DiagnosticSink {
+    /**
+     * receives a diagnostic
+     *
+     * @param diagnostic is the kind of the invalid input
+     */
+    void report(Diagnostic diagnostic);
+}
@@ -0,0 +1,54 @@
+package Diagnostics;
+
+/**
+ * Diagnostics is where the graphs, the edges and the queues report an invalid input instead of printing it.
+ * The default sink is a CountingSink, so an invalid input costs a counter increment and nothing is printed;
+ * another sink, like a LoggingSink, can be set for the whole program
+ */
+public final class Diagnostics {
+    private static final CountingSink COUNTS = new CountingSink();
+    private static volatile DiagnosticSink sink = COUNTS;
+
+    private Diagnostics() {
+    }
+
+    /**
+     * reports an invalid input to the current sink
+     *
+     * @param diagnostic is the kind of the invalid input
+     */
+    public static void report(Diagnostic diagnostic) {
+        sink.report(diagnostic);
+    }
+
+    /**
+     * gets the current sink
+     *
+     * @return the sink that receives the diagnostics
+     */
+    public static DiagnosticSink getSink() {
+        return sink;
+    }
+
+    /**
+     * sets the sink that receives the diagnostics
+     *
+     * @param newSink is the new sink, null to go back to the default counts
+     * @return the sink that was replaced
+     */
+    public static DiagnosticSink setSink(DiagnosticSink newSink) {
+        DiagnosticSink old = sink;
+        sink = newSink == null ? COUNTS : newSink;
+        return old;
+    }
+
+    /**
+     * gets the default sink, it counts the diagnostics while it's the current sink or while another sink passes the
+     * diagnostics to it
+     *
+     * @return the default counting sink
+     */
+    public static CountingSink counts() {
+        return COUNTS;
+    }
+}
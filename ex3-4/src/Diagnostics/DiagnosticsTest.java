@@ -0,0 +1,89 @@
+package Diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the diagnostics sinks
+ */
+public class DiagnosticsTest {
+
+    /**
+     * Test for check that the counting sink counts every kind on its own
+     */
+    @Test
+    public void TestCountingSink() {
+        CountingSink counts = new CountingSink();
+        counts.report(Diagnostic.QUEUE_EMPTY);
+        counts.report(Diagnostic.QUEUE_EMPTY);
+        counts.report(Diagnostic.NODE_MISSING);
+        assertEquals(2, counts.count(Diagnostic.QUEUE_EMPTY));
+        assertEquals(1, counts.count(Diagnostic.NODE_MISSING));
+        assertEquals(0, counts.count(Diagnostic.EDGE_MISSING));
+        assertEquals(3, counts.total());
+        assertEquals(2, counts.snapshot().size());
+        counts.reset();
+        assertEquals(0, counts.total());
+    }
+
+    /**
+     * Test for check that the logging sink logs the diagnostic and passes it to the next sink
+     */
+    @Test
+    public void TestLoggingSink() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        List<String> messages = new ArrayList<>();
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                messages.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        CountingSink counts = new CountingSink();
+        LoggingSink sink = new LoggingSink(logger, Level.WARNING, counts);
+        sink.report(Diagnostic.EDGE_MISSING);
+        assertEquals(List.of("EDGE_MISSING: " + Diagnostic.EDGE_MISSING.message()), messages);
+        assertEquals(1, counts.count(Diagnostic.EDGE_MISSING));
+        logger.setLevel(Level.SEVERE);
+        sink.report(Diagnostic.EDGE_MISSING);
+        assertEquals(1, messages.size());
+        assertEquals(2, counts.count(Diagnostic.EDGE_MISSING));
+    }
+
+    /**
+     * Test for check that the sink can be replaced and set back to the default counts
+     */
+    @Test
+    public void TestSetSink() {
+        CountingSink mine = new CountingSink();
+        DiagnosticSink old = Diagnostics.setSink(mine);
+        try {
+            long before = Diagnostics.counts().count(Diagnostic.KEY_OUT_OF_RANGE);
+            Diagnostics.report(Diagnostic.KEY_OUT_OF_RANGE);
+            assertEquals(1, mine.count(Diagnostic.KEY_OUT_OF_RANGE));
+            assertEquals(before, Diagnostics.counts().count(Diagnostic.KEY_OUT_OF_RANGE));
+        } finally {
+            Diagnostics.setSink(old);
+        }
+        assertSame(old, Diagnostics.getSink());
+        Diagnostics.setSink(null);
+        assertSame(Diagnostics.counts(), Diagnostics.getSink());
+    }
+}
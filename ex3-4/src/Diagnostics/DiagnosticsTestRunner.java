@@ -0,0 +1,19 @@
+package Diagnostics;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+/**
+ * DiagnosticsTestRunner is a class that run the tests of the diagnostics
+ */
+public class DiagnosticsTestRunner {
+    public static void main(String[] args) {
+        Result result = JUnitCore.runClasses(DiagnosticsTest.class);
+        for (Failure failure : result.getFailures()) {
+            System.out.println(failure.toString());
+        }
+        System.out.println(result.wasSuccessful());
+    }
+}
+
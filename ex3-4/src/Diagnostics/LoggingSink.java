@@ -0,0 +1,46 @@
+package Diagnostics;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * LoggingSink writes the diagnostics to a java.util.logging Logger and then passes them to another sink, so the counts
+ * can be kept while the diagnostics are logged. The message is built only if the logger takes the level
+ */
+public class LoggingSink implements DiagnosticSink {
+    private final Logger logger;
+    private final Level level;
+    private final DiagnosticSink next;
+
+    /**
+     * constructor of the class
+     *
+     * @param logger is the logger where the diagnostics are written
+     * @param level  is the level of the log records
+     * @param next   is the sink that receives the diagnostics after the logger, null for none
+     */
+    public LoggingSink(Logger logger, Level level, DiagnosticSink next) {
+        this.logger = logger;
+        this.level = level;
+        this.next = next;
+    }
+
+    /**
+     * constructor of the class, the diagnostics are logged as warnings to the logger of the package
+     *
+     * @param next is the sink that receives the diagnostics after the logger, null for none
+     */
+    public LoggingSink(DiagnosticSink next) {
+        this(Logger.getLogger(Diagnostics.class.getPackageName()), Level.WARNING, next);
+    }
+
+    @Override
+    public void report(Diagnostic diagnostic) {
+        if (logger.isLoggable(level)) {
+            logger.log(level, diagnostic.name() + ": " + diagnostic.message());
+        }
+        if (next != null) {
+            next.report(diagnostic);
+        }
+    }
+}
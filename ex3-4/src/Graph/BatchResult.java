@@ -0,0 +1,96 @@
+package Graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * BatchResult is the outcome of a batch change of a graph: how many entries were applied and which ones were
+ * rejected, each one with the reason
+ *
+ * @param <T> is the type of the entries of the batch
+ */
+public class BatchResult<T> {
+    private int accepted;
+    private final List<T> rejected;
+    private final List<String> reasons;
+
+    /**
+     * BatchResult is the constructor of the class, the result starts with no entries
+     */
+    BatchResult() {
+        accepted = 0;
+        rejected = new ArrayList<>();
+        reasons = new ArrayList<>();
+    }
+
+    /**
+     * counts an applied entry
+     */
+    void accept() {
+        accepted++;
+    }
+
+    /**
+     * records a rejected entry
+     *
+     * @param entry  is the entry
+     * @param reason is why the entry was rejected
+     */
+    void reject(T entry, String reason) {
+        rejected.add(entry);
+        reasons.add(reason);
+    }
+
+    /**
+     * gets the number of applied entries
+     *
+     * @return the number of applied entries
+     */
+    public int accepted() {
+        return accepted;
+    }
+
+    /**
+     * gets the rejected entries, in order of the batch
+     *
+     * @return the rejected entries
+     */
+    public List<T> rejected() {
+        return Collections.unmodifiableList(rejected);
+    }
+
+    /**
+     * gets why an entry was rejected
+     *
+     * @param i is the position of the entry in rejected()
+     * @return the reason of the rejection
+     */
+    public String reason(int i) {
+        return reasons.get(i);
+    }
+
+    /**
+     * checks if every entry of the batch was applied
+     *
+     * @return true if no entry was rejected
+     */
+    public boolean allAccepted() {
+        return rejected.isEmpty();
+    }
+
+    /**
+     * to string is a method that return a string that represent the result
+     *
+     * @return return the number of applied entries and the rejected ones with their reason
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append("accepted: ").append(accepted).append(", rejected: ").append(rejected.size());
+        for (int i = 0; i < rejected.size(); i++) {
+            s.append("\n").append(rejected.get(i)).append(": ").append(reasons.get(i));
+        }
+        return s.toString();
+    }
+}
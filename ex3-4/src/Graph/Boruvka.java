@@ -0,0 +1,138 @@
+package Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Boruvka is a class to implement the Borůvka's algorithm to find the minimum spanning forest of a graph.
+ * In each round the lightest edge that leaves every component is found in parallel, the components are joined along
+ * those edges and the edges inside a component are dropped, so there are at most log(N) rounds
+ */
+public class Boruvka {
+
+    private Boruvka() {
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a graph using the common fork/join pool
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(Graph<V, L> graph) {
+        return minimumSpanningForest(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a graph using a new pool with the given number of
+     * threads
+     *
+     * @param graph       is the graph where we want to find the minimum spanning tree
+     * @param parallelism is the number of threads
+     * @param <V>         is the type of the node
+     * @param <L>         is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(Graph<V, L> graph, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return minimumSpanningForest(graph, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a graph running the parallel steps in a pool
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param pool  is the pool that runs the parallel steps
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(Graph<V, L> graph, ForkJoinPool pool) {
+        EdgeList<V, L> list = EdgeList.from(graph);
+        return pool.submit(() -> minimumSpanningForest(list)).join();
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a snapshot of a graph using the common fork/join pool
+     *
+     * @param graph is the snapshot where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V> Collection<? extends AbstractEdge<V, Float>> minimumSpanningForest(CsrGraph<V> graph) {
+        EdgeList<V, Float> list = EdgeList.from(graph);
+        return ForkJoinPool.commonPool().submit(() -> minimumSpanningForest(list)).join();
+    }
+
+    /**
+     * runs the rounds of Borůvka on a list of edges, the parallel streams run in the pool of the calling task
+     *
+     * @param list is the list of edges
+     * @param <V>  is the type of the node
+     * @param <L>  is the type of the label
+     * @return return the minimum spanning forest
+     */
+    static <V, L extends Number> Collection<AbstractEdge<V, L>> minimumSpanningForest(EdgeList<V, L> list) {
+        int n = list.nodes.length;
+        UnionFind components = new UnionFind(n);
+        int[] component = IntStream.range(0, n).toArray();
+        AtomicIntegerArray lightest = new AtomicIntegerArray(n);
+        int[] alive = IntStream.range(0, list.size).toArray();
+        Collection<AbstractEdge<V, L>> forest = new ArrayList<>();
+        while (alive.length > 0) {
+            IntStream.range(0, n).parallel().forEach(c -> lightest.set(c, -1));
+            Arrays.stream(alive).parallel().forEach(e -> {
+                int a = component[list.starts[e]];
+                int b = component[list.ends[e]];
+                if (a != b) {
+                    offer(list, lightest, a, e);
+                    offer(list, lightest, b, e);
+                }
+            });
+            boolean joined = false;
+            for (int c = 0; c < n; c++) {
+                int e = lightest.get(c);
+                if (e != -1 && components.union(list.starts[e], list.ends[e])) {
+                    forest.add(list.edge(e));
+                    joined = true;
+                }
+            }
+            if (!joined) {
+                break;
+            }
+            IntStream.range(0, n).parallel().forEach(v -> component[v] = components.root(v));
+            alive = Arrays.stream(alive).parallel()
+                    .filter(e -> component[list.starts[e]] != component[list.ends[e]])
+                    .toArray();
+        }
+        return forest;
+    }
+
+    /**
+     * offers an edge as the lightest edge that leaves a component
+     *
+     * @param list      is the list of edges
+     * @param lightest  is the lightest edge found so far for each component, -1 if there is none
+     * @param component is the component
+     * @param e         is the edge
+     */
+    private static void offer(EdgeList<?, ?> list, AtomicIntegerArray lightest, int component, int e) {
+        int current = lightest.get(component);
+        while (current == -1 || list.lighter(e, current)) {
+            if (lightest.compareAndSet(component, current, e)) {
+                return;
+            }
+            current = lightest.get(component);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package Graph;
+
+import java.util.Random;
+
+/**
+ * BoruvkaBenchmark measures how Boruvka scales with the number of threads on a random graph, the time of the
+ * single-threaded lazy Prim is printed as a reference.
+ * <p>
+ * Usage: java Graph.BoruvkaBenchmark [nodes] [edges] [maxThreads]
+ */
+public class BoruvkaBenchmark {
+
+    /**
+     * builds a random connected graph: a random spanning path plus random edges
+     *
+     * @param nodes the number of nodes
+     * @param edges the number of edges
+     * @param seed  the seed of the random generator
+     * @return the graph
+     */
+    private static Graph<Integer, Float> randomGraph(int nodes, int edges, long seed) {
+        Random random = new Random(seed);
+        Graph<Integer, Float> graph = new Graph<>(false, true);
+        for (int i = 0; i < nodes; i++) {
+            graph.addNode(i);
+        }
+        for (int i = 1; i < nodes; i++) {
+            graph.addEdge(i - 1, i, random.nextFloat() * 1000);
+        }
+        for (int i = nodes - 1; i < edges; i++) {
+            int a = random.nextInt(nodes);
+            int b = random.nextInt(nodes);
+            if (a != b && !graph.containsEdge(a, b)) {
+                graph.addEdge(a, b, random.nextFloat() * 1000);
+            }
+        }
+        return graph;
+    }
+
+    public static void main(String[] args) {
+        int nodes = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int edges = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        Graph<Integer, Float> graph = randomGraph(nodes, edges, 42);
+        System.out.println("Graph with " + graph.numNodes() + " nodes and " + graph.numEdges() + " edges, best of 3 runs");
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            Prim.minimumSpanningForest(graph);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("lazy Prim           : %8.1f ms%n", best / 1e6);
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            best = Long.MAX_VALUE;
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                Boruvka.minimumSpanningForest(graph, threads);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("Boruvka %2d threads  : %8.1f ms%n", threads, best / 1e6);
+        }
+    }
+}
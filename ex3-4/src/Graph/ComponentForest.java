@@ -0,0 +1,128 @@
+package Graph;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ComponentForest is a minimum spanning forest with its trees apart: the edges are grouped by connected component
+ * and every component has its number of nodes, number of edges and weight
+ *
+ * @param <V> is the type of the node
+ * @param <L> is the type of the label
+ */
+public class ComponentForest<V, L extends Number> {
+    private final List<Edge<V, L>> edges;
+    private final int[] starts;
+    private final int[] nodes;
+    private final double[] weights;
+
+    /**
+     * ComponentForest is the constructor of the class
+     *
+     * @param edges   are the edges of the forest, grouped by component
+     * @param starts  is the position of the first edge of every component in edges, with the number of edges at the
+     *                end
+     * @param nodes   is the number of nodes of every component
+     * @param weights is the sum of the labels of every component
+     */
+    ComponentForest(List<Edge<V, L>> edges, int[] starts, int[] nodes, double[] weights) {
+        this.edges = edges;
+        this.starts = starts;
+        this.nodes = nodes;
+        this.weights = weights;
+    }
+
+    /**
+     * gets all the edges of the forest -- O(1)
+     *
+     * @return the edges, grouped by component
+     */
+    public List<Edge<V, L>> getEdges() {
+        return Collections.unmodifiableList(edges);
+    }
+
+    /**
+     * gets the edges of the tree of a component -- O(1)
+     *
+     * @param component is the number of the component
+     * @return the edges of the tree
+     */
+    public List<Edge<V, L>> getEdges(int component) {
+        return Collections.unmodifiableList(edges.subList(starts[component], starts[component + 1]));
+    }
+
+    /**
+     * gets the number of connected components, a node without edges is a component by itself -- O(1)
+     *
+     * @return the number of components
+     */
+    public int numComponents() {
+        return nodes.length;
+    }
+
+    /**
+     * gets the number of nodes of a component -- O(1)
+     *
+     * @param component is the number of the component
+     * @return the number of nodes
+     */
+    public int numNodes(int component) {
+        return nodes[component];
+    }
+
+    /**
+     * gets the number of edges of the tree of a component -- O(1)
+     *
+     * @param component is the number of the component
+     * @return the number of edges
+     */
+    public int numEdges(int component) {
+        return starts[component + 1] - starts[component];
+    }
+
+    /**
+     * gets the number of edges of the forest -- O(1)
+     *
+     * @return the number of edges
+     */
+    public int numEdges() {
+        return edges.size();
+    }
+
+    /**
+     * gets the sum of the labels of the tree of a component -- O(1)
+     *
+     * @param component is the number of the component
+     * @return the weight of the tree
+     */
+    public double weight(int component) {
+        return weights[component];
+    }
+
+    /**
+     * gets the sum of the labels of the forest -- O(components)
+     *
+     * @return the weight of the forest
+     */
+    public double weight() {
+        double weight = 0;
+        for (double w : weights) {
+            weight += w;
+        }
+        return weight;
+    }
+
+    /**
+     * to string is a method that return a string that represent the forest
+     *
+     * @return return a line for every component with its nodes, edges and weight
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (int c = 0; c < nodes.length; c++) {
+            s.append(c).append(": ").append(nodes[c]).append(" nodes, ").append(numEdges(c)).append(" edges, weight ").append(weights[c]).append("\n");
+        }
+        return s.toString();
+    }
+}
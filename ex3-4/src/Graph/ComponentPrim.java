@@ -0,0 +1,160 @@
+package Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import PriorityQueue.IntDoubleHeap;
+
+/**
+ * ComponentPrim finds the minimum spanning forest one connected component at a time in parallel. The graph is frozen
+ * in a CsrGraph and its components are labelled first, then every component runs its own indexed lazy Prim on a
+ * fork/join pool, with a heap as big as the arcs of the component, and the trees are put together in a
+ * ComponentForest. The components share the visited array, each one writes only the slots of its own nodes
+ */
+public class ComponentPrim {
+
+    private ComponentPrim() {
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a graph on the common fork/join pool
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return return the minimum spanning forest of the graph, with a tree for every component
+     */
+    public static <V, L extends Number> ComponentForest<V, L> minimumSpanningForest(Graph<V, L> graph) {
+        return minimumSpanningForest(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a graph running the components in a pool
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param pool  is the pool that runs the components
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return return the minimum spanning forest of the graph, with a tree for every component
+     */
+    public static <V, L extends Number> ComponentForest<V, L> minimumSpanningForest(Graph<V, L> graph, ForkJoinPool pool) {
+        CsrGraph<V> csr = graph.freeze();
+        int n = csr.numNodes();
+        int[] component = csr.components();
+        int count = 0;
+        for (int c : component) {
+            count = Math.max(count, c + 1);
+        }
+        int[] first = new int[count + 1];
+        for (int c : component) {
+            first[c + 1]++;
+        }
+        for (int c = 0; c < count; c++) {
+            first[c + 1] += first[c];
+        }
+        int[] members = new int[n];
+        int[] position = new int[n];
+        int[] fill = Arrays.copyOf(first, count);
+        for (int node = 0; node < n; node++) {
+            position[node] = fill[component[node]] - first[component[node]];
+            members[fill[component[node]]++] = node;
+        }
+        boolean[] visited = new boolean[n];
+        List<List<Edge<V, L>>> trees = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            trees.add(null);
+        }
+        double[] weights = new double[count];
+        pool.submit(() -> IntStream.range(0, trees.size()).parallel().forEach(c -> {
+            List<Edge<V, L>> tree = new ArrayList<>(first[c + 1] - first[c] - 1);
+            for (int arc : tree(csr, component, members, position, first[c], first[c + 1], visited)) {
+                V start = csr.node(csr.source(arc));
+                V end = csr.node(csr.target(arc));
+                L label = graph.getLabel(start, end);
+                tree.add(new Edge<>(start, end, label));
+                weights[c] += label.doubleValue();
+            }
+            trees.set(c, tree);
+        })).join();
+        int[] starts = new int[count + 1];
+        int[] nodes = new int[count];
+        List<Edge<V, L>> edges = new ArrayList<>(Math.max(n - count, 0));
+        for (int c = 0; c < count; c++) {
+            edges.addAll(trees.get(c));
+            starts[c + 1] = edges.size();
+            nodes[c] = first[c + 1] - first[c];
+        }
+        return new ComponentForest<>(edges, starts, nodes, weights);
+    }
+
+    /**
+     * runs the indexed lazy Prim on a component, the arcs of the component get local ids from 0 so the heap is only
+     * as big as the component; on a directed graph the arcs that leave the component are skipped
+     *
+     * @param graph     is the graph
+     * @param component is the component of every node
+     * @param members   are the nodes of all the components, grouped by component
+     * @param position  is the position of every node in its component
+     * @param from      is the position in members of the first node of the component
+     * @param to        is the position in members after the last node of the component
+     * @param visited   tells which nodes are already in the forest
+     * @return the arcs of the tree of the component
+     */
+    static int[] tree(CsrGraph<?> graph, int[] component, int[] members, int[] position, int from, int to, boolean[] visited) {
+        int arcs = 0;
+        for (int k = from; k < to; k++) {
+            arcs += graph.degree(members[k]);
+        }
+        int[] arcOf = new int[arcs];
+        int[] base = new int[to - from];
+        int local = 0;
+        for (int k = from; k < to; k++) {
+            base[k - from] = local;
+            for (int arc = graph.firstArc(members[k]); arc < graph.endArc(members[k]); arc++) {
+                arcOf[local++] = arc;
+            }
+        }
+        IntDoubleHeap queue = new IntDoubleHeap(arcs);
+        int[] tree = new int[Math.max(to - from - 1, 0)];
+        int size = 0;
+        int root = members[from];
+        visited[root] = true;
+        push(graph, component, root, base[0], visited, queue);
+        while (!queue.empty()) {
+            int arc = arcOf[queue.topId()];
+            queue.pop();
+            int next = graph.target(arc);
+            if (visited[next]) {
+                continue;
+            }
+            tree[size++] = arc;
+            visited[next] = true;
+            push(graph, component, next, base[position[next]], visited, queue);
+        }
+        return Arrays.copyOf(tree, size);
+    }
+
+    /**
+     * pushes in the queue the arcs that go from a node to the nodes of its component that are not visited yet, with
+     * their local ids
+     *
+     * @param graph     is the graph
+     * @param component is the component of every node
+     * @param node      is the node
+     * @param base      is the local id of the first arc of the node
+     * @param visited   tells which nodes are already in the forest
+     * @param queue     is the queue of local arc ids
+     */
+    private static void push(CsrGraph<?> graph, int[] component, int node, int base, boolean[] visited, IntDoubleHeap queue) {
+        int firstArc = graph.firstArc(node);
+        for (int arc = firstArc; arc < graph.endArc(node); arc++) {
+            int next = graph.target(arc);
+            if (component[next] == component[node] && !visited[next]) {
+                queue.push(base + arc - firstArc, graph.weight(arc));
+            }
+        }
+    }
+}
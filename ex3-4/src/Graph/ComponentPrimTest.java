@@ -0,0 +1,86 @@
+package Graph;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for ComponentPrim
+ */
+public class ComponentPrimTest {
+
+    /**
+     * Test for check the trees of a graph with two islands and a node without edges
+     */
+    @Test
+    public void TestIslands() {
+        Graph<String, Float> graph = new Graph<>(false, true);
+        for (String node : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            graph.addNode(node);
+        }
+        graph.addEdge("a", "b", 1f);
+        graph.addEdge("b", "c", 2f);
+        graph.addEdge("a", "c", 5f);
+        graph.addEdge("d", "e", 4f);
+        ComponentForest<String, Float> forest = ComponentPrim.minimumSpanningForest(graph);
+        assertEquals(3, forest.numComponents());
+        assertEquals(3, forest.numEdges());
+        assertEquals(7, forest.weight(), 0);
+        int[] edges = new int[3];
+        double[] weights = new double[3];
+        int[] listed = new int[3];
+        for (int c = 0; c < 3; c++) {
+            int size = forest.numNodes(c);
+            edges[size - 1] = forest.numEdges(c);
+            weights[size - 1] = forest.weight(c);
+            listed[size - 1] = forest.getEdges(c).size();
+        }
+        assertArrayEquals(new int[]{0, 1, 2}, edges);
+        assertArrayEquals(new double[]{0, 4, 3}, weights, 0);
+        assertArrayEquals(edges, listed);
+    }
+
+    /**
+     * Test for check that a graph with many islands gives the forest of Kruskal, with every tree one edge less than
+     * its nodes
+     */
+    @Test
+    public void TestSameWeight() throws Exception {
+        Graph<Integer, Float> graph = PrimTest.randomGraph(3000, 4000, 13);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ComponentForest<Integer, Float> forest = pool.submit(() -> ComponentPrim.minimumSpanningForest(graph, pool)).get();
+        pool.shutdown();
+        assertEquals(PrimTest.weight(Kruskal.minimumSpanningForest(graph)), forest.weight(), 1e-2);
+        assertEquals(Kruskal.minimumSpanningForest(graph).size(), forest.numEdges());
+        int nodes = 0;
+        for (int c = 0; c < forest.numComponents(); c++) {
+            assertEquals(forest.numNodes(c) - 1, forest.numEdges(c));
+            assertEquals(PrimTest.weight(forest.getEdges(c)), forest.weight(c), 1e-3);
+            nodes += forest.numNodes(c);
+        }
+        assertEquals(graph.numNodes(), nodes);
+        assertTrue(forest.numComponents() > 1);
+    }
+
+    /**
+     * Test for check that the arcs are ranked by the exact Double labels, they are the same as floats
+     */
+    @Test
+    public void TestNearEqualDoubleLabels() {
+        Graph<String, Double> graph = new Graph<>(false, true);
+        graph.addNode("a");
+        graph.addNode("b");
+        graph.addNode("c");
+        graph.addEdge("a", "b", 1.0);
+        graph.addEdge("a", "c", 2.00000002);
+        graph.addEdge("b", "c", 2.00000001);
+        ComponentForest<String, Double> forest = ComponentPrim.minimumSpanningForest(graph);
+        assertEquals(1, forest.numComponents());
+        assertEquals(3.00000001, forest.weight(), 1e-12);
+        for (Edge<String, Double> edge : forest.getEdges()) {
+            assertNotEquals(2.00000002, edge.getLabel(), 0);
+        }
+    }
+}
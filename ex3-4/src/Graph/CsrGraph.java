@@ -0,0 +1,392 @@
+package Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CsrGraph is a read-only snapshot of a graph in compressed sparse row form: the nodes are mapped to the ints from 0
+ * to numNodes - 1 and the arcs that leave node i are the ones from offsets[i] to offsets[i + 1] - 1, with their end in
+ * targets and their label in a float array. When a label is not exactly a float (a Double or a wide Long) the
+ * labels are also kept as doubles, so the algorithms rank the arcs by the exact weight. An undirected edge is stored
+ * as two arcs, like in Graph. The snapshot does not change when the graph changes
+ *
+ * @param <V> is the type of the node
+ */
+public class CsrGraph<V> {
+    private final boolean directed;
+    private final V[] nodes;
+    private final Map<V, Integer> ids;
+    private final int[] offsets;
+    private final int[] targets;
+    private final float[] labels;
+    private final double[] weights;
+    private final int edges;
+
+    /**
+     * CsrGraph is the constructor of the class, the arrays are not copied
+     *
+     * @param directed tells if the graph is directed
+     * @param nodes    is the node of each id
+     * @param offsets  is the first arc of each node, with numArcs at the end
+     * @param targets  is the id of the end of each arc
+     * @param labels   is the label of each arc, null for an unlabelled graph
+     */
+    CsrGraph(boolean directed, V[] nodes, int[] offsets, int[] targets, float[] labels) {
+        this(directed, nodes, idsOf(nodes), offsets, targets, labels, null);
+    }
+
+    /**
+     * CsrGraph is the constructor of the class, the arrays and the map are not copied
+     *
+     * @param directed tells if the graph is directed
+     * @param nodes    is the node of each id
+     * @param ids      is the id of each node
+     * @param offsets  is the first arc of each node, with numArcs at the end
+     * @param targets  is the id of the end of each arc
+     * @param labels   is the label of each arc, null for an unlabelled graph
+     * @param weights  is the exact label of each arc, null if every label is exactly a float
+     */
+    private CsrGraph(boolean directed, V[] nodes, Map<V, Integer> ids, int[] offsets, int[] targets, float[] labels, double[] weights) {
+        this.directed = directed;
+        this.nodes = nodes;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.labels = labels;
+        this.weights = weights;
+        this.edges = countEdges(directed, offsets, targets);
+    }
+
+    /**
+     * counts the edges of the arcs: on an undirected graph an edge is the two arcs i,j and j,i, but a self-loop is a
+     * single arc as in Graph
+     *
+     * @param directed tells if the graph is directed
+     * @param offsets  is the first arc of each node, with numArcs at the end
+     * @param targets  is the id of the end of each arc
+     * @return the number of edges
+     */
+    private static int countEdges(boolean directed, int[] offsets, int[] targets) {
+        if (directed) {
+            return targets.length;
+        }
+        int count = 0;
+        for (int i = 0; i + 1 < offsets.length; i++) {
+            for (int arc = offsets[i]; arc < offsets[i + 1]; arc++) {
+                if (i <= targets[arc]) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * maps each node to its position in an array
+     *
+     * @param nodes are the nodes
+     * @param <V>   is the type of the node
+     * @return the id of each node
+     */
+    private static <V> Map<V, Integer> idsOf(V[] nodes) {
+        Map<V, Integer> ids = HashMap.newHashMap(nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            ids.put(nodes[i], i);
+        }
+        return ids;
+    }
+
+    /**
+     * builds the snapshot of a graph, the labels of a labelled graph must be numbers
+     *
+     * @param graph is the graph
+     * @param <V>   is the type of the node
+     * @return the snapshot of the graph
+     * @throws IllegalArgumentException if the graph is labelled and a label is not a number
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> CsrGraph<V> from(Graph<V, ?> graph) {
+        V[] nodes = (V[]) graph.getNodes().toArray();
+        int n = nodes.length;
+        Map<V, Integer> ids = idsOf(nodes);
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + graph.getNeighbours(nodes[i]).size();
+        }
+        int[] targets = new int[offsets[n]];
+        float[] labels = graph.isLabelled() ? new float[offsets[n]] : null;
+        double[] weights = null;
+        for (int i = 0; i < n; i++) {
+            int arc = offsets[i];
+            for (V next : graph.getNeighbours(nodes[i])) {
+                targets[arc] = ids.get(next);
+                if (labels != null) {
+                    Object label = graph.getLabel(nodes[i], next);
+                    if (!(label instanceof Number)) {
+                        throw new IllegalArgumentException("The label of the edge " + nodes[i] + "," + next + " is not a number");
+                    }
+                    labels[arc] = ((Number) label).floatValue();
+                    double weight = ((Number) label).doubleValue();
+                    if (weights == null && weight != labels[arc] && !Double.isNaN(weight)) {
+                        weights = new double[offsets[n]];
+                        for (int k = 0; k < arc; k++) {
+                            weights[k] = labels[k];
+                        }
+                    }
+                    if (weights != null) {
+                        weights[arc] = weight;
+                    }
+                }
+                arc++;
+            }
+        }
+        return new CsrGraph<>(graph.isDirected(), nodes, ids, offsets, targets, labels, weights);
+    }
+
+    /**
+     * checks if the graph is directed
+     *
+     * @return true if the graph is directed
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * checks if the graph is labelled
+     *
+     * @return true if the graph is labelled
+     */
+    public boolean isLabelled() {
+        return labels != null;
+    }
+
+    /**
+     * gets the number of nodes
+     *
+     * @return the number of nodes
+     */
+    public int numNodes() {
+        return nodes.length;
+    }
+
+    /**
+     * gets the number of arcs, an undirected edge is two arcs
+     *
+     * @return the number of arcs
+     */
+    public int numArcs() {
+        return targets.length;
+    }
+
+    /**
+     * gets the number of edges, like Graph.numEdges -- O(1)
+     *
+     * @return the number of edges
+     */
+    public int numEdges() {
+        return edges;
+    }
+
+    /**
+     * gets the node of an id
+     *
+     * @param id is the id of the node
+     * @return the node
+     */
+    public V node(int id) {
+        return nodes[id];
+    }
+
+    /**
+     * gets the id of a node
+     *
+     * @param node is the node
+     * @return the id of the node, -1 if the node is not in the graph
+     */
+    public int indexOf(V node) {
+        Integer id = ids.get(node);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * gets the first arc that leaves a node
+     *
+     * @param id is the id of the node
+     * @return the index of the first arc of the node
+     */
+    public int firstArc(int id) {
+        return offsets[id];
+    }
+
+    /**
+     * gets the arc after the last one that leaves a node
+     *
+     * @param id is the id of the node
+     * @return the index after the last arc of the node
+     */
+    public int endArc(int id) {
+        return offsets[id + 1];
+    }
+
+    /**
+     * gets the number of arcs that leave a node
+     *
+     * @param id is the id of the node
+     * @return the out degree of the node
+     */
+    public int degree(int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    /**
+     * gets the end of an arc
+     *
+     * @param arc is the index of the arc
+     * @return the id of the end of the arc
+     */
+    public int target(int arc) {
+        return targets[arc];
+    }
+
+    /**
+     * gets the start of an arc with a binary search on the offsets -- O(logN)
+     *
+     * @param arc is the index of the arc
+     * @return the id of the start of the arc
+     */
+    public int source(int arc) {
+        int i = Arrays.binarySearch(offsets, arc);
+        if (i < 0) {
+            return -i - 2;
+        }
+        while (offsets[i + 1] == arc) {//skip the nodes without arcs
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * gets the label of an arc
+     *
+     * @param arc is the index of the arc
+     * @return the label of the arc, 1 if the graph is unlabelled
+     */
+    public float label(int arc) {
+        return labels == null ? 1f : labels[arc];
+    }
+
+    /**
+     * gets the weight of an arc, the exact label also when a float rounds it
+     *
+     * @param arc is the index of the arc
+     * @return the weight of the arc, 1 if the graph is unlabelled
+     */
+    public double weight(int arc) {
+        return weights != null ? weights[arc] : label(arc);
+    }
+
+    /**
+     * gets the offsets of the arcs, the array must not be changed
+     *
+     * @return the first arc of each node, with numArcs at the end
+     */
+    int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * gets the ends of the arcs, the array must not be changed
+     *
+     * @return the id of the end of each arc
+     */
+    int[] targets() {
+        return targets;
+    }
+
+    /**
+     * labels the connected components with a breadth-first visit over the arrays, for a directed graph the arcs are
+     * followed only forwards
+     *
+     * @return the component of each node, numbered from 0 in order of their smallest node
+     */
+    public int[] components() {
+        int[] component = new int[nodes.length];
+        Arrays.fill(component, -1);
+        int[] queue = new int[nodes.length];
+        int count = 0;
+        for (int root = 0; root < nodes.length; root++) {
+            if (component[root] != -1) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            component[root] = count;
+            while (head < tail) {
+                int node = queue[head++];
+                for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                    int next = targets[arc];
+                    if (component[next] == -1) {
+                        component[next] = count;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            count++;
+        }
+        return component;
+    }
+
+    /**
+     * builds a new Graph with the nodes and the arcs of the snapshot
+     *
+     * @return the graph, labelled with Float if the snapshot is labelled
+     */
+    public Graph<V, Float> toGraph() {
+        Graph<V, Float> graph = new Graph<>(directed, isLabelled(), nodes.length);
+        graph.addNodes(Arrays.asList(nodes));
+        List<Edge<V, Float>> edges = new ArrayList<>(numEdges());
+        for (int i = 0; i < nodes.length; i++) {
+            for (int arc = offsets[i]; arc < offsets[i + 1]; arc++) {
+                int j = targets[arc];
+                if (directed || i <= j) {
+                    edges.add(new Edge<>(nodes[i], nodes[j], labels == null ? null : labels[arc]));
+                }
+            }
+        }
+        graph.addEdges(edges);
+        return graph;
+    }
+
+    /**
+     * gets the nodes of the snapshot
+     *
+     * @return the nodes in order of id
+     */
+    public Collection<V> getNodes() {
+        return Arrays.asList(nodes);
+    }
+
+    /**
+     * to string is a method that return a string that represent the graph
+     *
+     * @return return a string that represent the graph
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < nodes.length; i++) {
+            s.append(nodes[i]).append("->");
+            for (int arc = offsets[i]; arc < offsets[i + 1]; arc++) {
+                s.append(nodes[targets[arc]]).append(" ");
+            }
+            s.append("\n");
+        }
+        return s.toString();
+    }
+}
@@ -0,0 +1,319 @@
+package Graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * CsvGraphLoader reads an undirected labelled graph from a csv file with a line "start,end,label" for every edge,
+ * the fields after the label are ignored. The file is memory mapped and split in chunks that end on a newline, the chunks are parsed in parallel without
+ * creating a String for every field, each one with its own VertexDictionary, then the dictionaries are merged in
+ * order so that the ids are the same of a sequential read and the edges are added to the graph in bulk
+ */
+public class CsvGraphLoader {
+
+    /**
+     * the smallest chunk worth a task
+     */
+    static final int MIN_CHUNK = 1 << 20;
+
+    /**
+     * the biggest chunk, a mapped buffer is indexed by an int
+     */
+    static final int MAX_CHUNK = 1 << 30;
+
+    private CsvGraphLoader() {
+    }
+
+    /**
+     * Chunk is the part of the file parsed by a task, with the edges in local ids
+     */
+    private static final class Chunk {
+        private final VertexDictionary dictionary = new VertexDictionary();
+        private int[] starts = new int[1024];
+        private int[] ends = new int[1024];
+        private float[] labels = new float[1024];
+        private int size = 0;
+
+        private void add(int start, int end, float label) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                labels = Arrays.copyOf(labels, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            labels[size] = label;
+            size++;
+        }
+    }
+
+    /**
+     * AsciiChars shows a range of a buffer as chars, it's used only on bytes lower than 128
+     */
+    private static final class AsciiChars implements CharSequence {
+        private final ByteBuffer buffer;
+
+        private AsciiChars(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int length() {
+            return buffer.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) buffer.get(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return decode(buffer, start, end);
+        }
+
+        @Override
+        public String toString() {
+            return decode(buffer, 0, buffer.limit());
+        }
+    }
+
+    /**
+     * load reads a graph using the common fork/join pool
+     *
+     * @param path       is the path of the csv file
+     * @param dictionary is the dictionary where the names of the nodes are interned
+     * @return the graph, its nodes are the ids of the names in the dictionary
+     * @throws IOException if the file can't be read
+     */
+    public static Graph<Integer, Float> load(Path path, VertexDictionary dictionary) throws IOException {
+        return load(path, dictionary, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * load reads a graph parsing the chunks in a pool
+     *
+     * @param path       is the path of the csv file
+     * @param dictionary is the dictionary where the names of the nodes are interned
+     * @param pool       is the pool that parses the chunks
+     * @return the graph, its nodes are the ids of the names in the dictionary
+     * @throws IOException if the file can't be read or a line is not "start,end,label"
+     */
+    public static Graph<Integer, Float> load(Path path, VertexDictionary dictionary, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = split(channel, pool.getParallelism() * 4L);
+            Chunk[] chunks = new Chunk[bounds.length - 1];
+            try {
+                pool.submit(() -> IntStream.range(0, chunks.length).parallel().forEach(i -> {
+                    try {
+                        chunks[i] = parse(channel.map(FileChannel.MapMode.READ_ONLY, bounds[i], bounds[i + 1] - bounds[i]), bounds[i]);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })).join();
+            } catch (RuntimeException e) {
+                for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    }
+                }
+                throw e;
+            }
+            return merge(chunks, dictionary);
+        }
+    }
+
+    /**
+     * splits the file in chunks that end after a newline
+     *
+     * @param channel is the file
+     * @param count   is the number of chunks wanted
+     * @return the offset where every chunk starts, with the size of the file at the end
+     * @throws IOException if the file can't be read
+     */
+    static long[] split(FileChannel channel, long count) throws IOException {
+        long size = channel.size();
+        long chunk = Math.min(Math.max(size / Math.max(count, 1), MIN_CHUNK), MAX_CHUNK / 2);
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer window = ByteBuffer.allocate(4096);
+        long position = 0;
+        while (size - position > chunk) {
+            long next = position + chunk;
+            long newline = -1;
+            while (newline == -1 && next < size && next - position < MAX_CHUNK) {
+                window.clear();
+                int read = channel.read(window, next);
+                for (int i = 0; i < read && newline == -1; i++) {
+                    if (window.get(i) == '\n') {
+                        newline = next + i + 1;
+                    }
+                }
+                next += Math.max(read, 0);
+            }
+            if (newline == -1 || newline >= size) {
+                break;
+            }
+            bounds.add(newline);
+            position = newline;
+        }
+        if (size - position > MAX_CHUNK) {
+            throw new IOException("A line is longer than " + MAX_CHUNK + " bytes");
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * parses the lines of a chunk
+     *
+     * @param buffer is the chunk
+     * @param offset is the position of the chunk in the file, for the error messages
+     * @return the edges of the chunk
+     * @throws IOException if a line is not "start,end,label"
+     */
+    private static Chunk parse(MappedByteBuffer buffer, long offset) throws IOException {
+        Chunk chunk = new Chunk();
+        AsciiChars chars = new AsciiChars(buffer);
+        int limit = buffer.limit();
+        int line = 0;
+        while (line < limit) {
+            int first = -1;
+            int second = -1;
+            int third = -1;
+            boolean ascii = true;
+            int end = line;
+            for (; end < limit; end++) {
+                byte b = buffer.get(end);
+                if (b == '\n') {
+                    break;
+                }
+                if (b == ',') {
+                    if (first == -1) {
+                        first = end;
+                    } else if (second == -1) {
+                        second = end;
+                    } else if (third == -1) {
+                        third = end;
+                    }
+                } else if (b < 0) {
+                    ascii = false;
+                }
+            }
+            int next = end + 1;
+            if (end > line && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            if (end > line) {
+                if (second == -1) {
+                    throw new IOException("Bad line at byte " + (offset + line) + ": " + decode(buffer, line, end));
+                }
+                int start = ascii ? chunk.dictionary.intern(chars, line, first) : chunk.dictionary.intern(decode(buffer, line, first));
+                int stop = ascii ? chunk.dictionary.intern(chars, first + 1, second) : chunk.dictionary.intern(decode(buffer, first + 1, second));
+                chunk.add(start, stop, parseFloat(buffer, second + 1, third == -1 ? end : third));
+            }
+            line = next;
+        }
+        return chunk;
+    }
+
+    /**
+     * parses a label, an integer up to 2^24 (with only zeros after the point) is an exact float and is read directly
+     * from the bytes, every other number is read by Float.parseFloat
+     *
+     * @param buffer is the chunk
+     * @param from   is the first byte of the label
+     * @param to     is the byte after the last one of the label
+     * @return the label
+     * @throws IOException if the label is not a number
+     */
+    static float parseFloat(ByteBuffer buffer, int from, int to) throws IOException {
+        long value = 0;
+        int digits = 0;
+        boolean point = false;
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && !point) {
+                point = true;
+            } else if (b < '0' || b > '9' || (point && b != '0') || value > (1 << 24)) {
+                return slowParseFloat(buffer, from, to);
+            } else if (!point) {
+                value = value * 10 + (b - '0');
+                digits++;
+            }
+        }
+        if (digits == 0 || value > (1 << 24)) {
+            return slowParseFloat(buffer, from, to);
+        }
+        return value;
+    }
+
+    /**
+     * parses a label with Float.parseFloat
+     *
+     * @param buffer is the chunk
+     * @param from   is the first byte of the label
+     * @param to     is the byte after the last one of the label
+     * @return the label
+     * @throws IOException if the label is not a number
+     */
+    private static float slowParseFloat(ByteBuffer buffer, int from, int to) throws IOException {
+        String label = decode(buffer, from, to);
+        try {
+            return Float.parseFloat(label);
+        } catch (NumberFormatException e) {
+            throw new IOException("The label is not a number: " + label);
+        }
+    }
+
+    /**
+     * decodes a range of a buffer as UTF-8
+     *
+     * @param buffer is the buffer
+     * @param from   is the first byte
+     * @param to     is the byte after the last one
+     * @return the decoded string
+     */
+    private static String decode(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * merges the chunks in order: the names of every chunk are interned in the dictionary and the edges are added
+     * with the new ids
+     *
+     * @param chunks     are the parsed chunks
+     * @param dictionary is the dictionary of the graph
+     * @return the graph
+     */
+    private static Graph<Integer, Float> merge(Chunk[] chunks, VertexDictionary dictionary) {
+        int[][] ids = new int[chunks.length][];
+        for (int i = 0; i < chunks.length; i++) {
+            ids[i] = dictionary.internAll(chunks[i].dictionary);
+        }
+        Graph<Integer, Float> graph = new Graph<>(false, true, dictionary.size());
+        graph.addNodes(IntStream.range(0, dictionary.size()).boxed().toList());
+        for (int i = 0; i < chunks.length; i++) {
+            Chunk chunk = chunks[i];
+            int[] global = ids[i];
+            List<Edge<Integer, Float>> edges = new ArrayList<>(chunk.size);
+            for (int e = 0; e < chunk.size; e++) {
+                edges.add(new Edge<>(global[chunk.starts[e]], global[chunk.ends[e]], chunk.labels[e]));
+            }
+            graph.addEdges(edges);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,100 @@
+package Graph;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for CsvGraphLoader
+ */
+public class CsvGraphLoaderTest {
+
+    /**
+     * Test for check that the names, the edges and the labels are read, also with windows newlines and non ascii names
+     */
+    @Test
+    public void TestLoad() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        try {
+            Files.writeString(file, "torino,milano,125.0\r\nmilano,forlì,270.5\n\nforlì,torino,1e2\n", StandardCharsets.UTF_8);
+            VertexDictionary dictionary = new VertexDictionary();
+            Graph<Integer, Float> graph = CsvGraphLoader.load(file, dictionary);
+            assertEquals(3, graph.numNodes());
+            assertEquals(3, graph.numEdges());
+            assertEquals("torino", dictionary.name(0));
+            assertEquals("forlì", dictionary.name(2));
+            assertEquals(125f, graph.getLabel(0, 1), 0);
+            assertEquals(270.5f, graph.getLabel(2, 1), 0);
+            assertEquals(100f, graph.getLabel(0, 2), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test for check that the fields after the label are ignored
+     */
+    @Test
+    public void TestExtraFields() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        try {
+            Files.writeString(file, "a,b,1.5,extra\r\nb,c,7,x,y\nc,a,2,\n", StandardCharsets.UTF_8);
+            Graph<Integer, Float> graph = CsvGraphLoader.load(file, new VertexDictionary());
+            assertEquals(3, graph.numEdges());
+            assertEquals(1.5f, graph.getLabel(0, 1), 0);
+            assertEquals(7f, graph.getLabel(1, 2), 0);
+            assertEquals(2f, graph.getLabel(2, 0), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test for check that a file split in many chunks gives the ids of a sequential read
+     */
+    @Test
+    public void TestChunks() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            StringBuilder s = new StringBuilder();
+            int lines = 0;
+            while (s.length() < 3 * CsvGraphLoader.MIN_CHUNK) {
+                s.append("city").append(lines).append(",city").append(lines + 1).append(',').append(lines % 1000).append(".25\n");
+                lines++;
+            }
+            Files.writeString(file, s);
+            VertexDictionary dictionary = new VertexDictionary();
+            Graph<Integer, Float> graph = CsvGraphLoader.load(file, dictionary, pool);
+            assertEquals(lines + 1, graph.numNodes());
+            assertEquals(lines, graph.numEdges());
+            for (int i = 0; i <= lines; i++) {
+                assertEquals("city" + i, dictionary.name(i));
+            }
+            assertEquals((lines - 1) % 1000 + 0.25f, graph.getLabel(lines - 1, lines), 0);
+        } finally {
+            pool.shutdown();
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test for check that a line without a label is an error
+     */
+    @Test(expected = IOException.class)
+    public void TestBadLine() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        try {
+            Files.writeString(file, "torino,milano\n");
+            CsvGraphLoader.load(file, new VertexDictionary());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
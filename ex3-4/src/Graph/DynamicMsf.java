@@ -0,0 +1,523 @@
+package Graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DynamicMsf keeps the minimum spanning forest of an undirected labelled graph while its edges change, the changes
+ * go through this class so the graph and the forest stay in step. The forest is kept in a link-cut tree where every
+ * forest edge is a node between its two ends, so the heaviest edge on the path between two nodes is found in
+ * O(log n) amortized. Adding an edge that closes a cycle swaps it with the heaviest edge of the cycle if it's lighter;
+ * removing a forest edge visits the two trees it leaves at the same pace, stops at the smaller one and takes the
+ * lightest edge that leaves it
+ *
+ * @param <V> is the type of the node
+ * @param <L> is the type of the label
+ */
+public class DynamicMsf<V, L extends Number> {
+    private static final int NIL = -1;
+
+    private final Graph<V, L> graph;
+    private final Map<V, Integer> ids;
+    private final Map<V, Map<V, Integer>> forest;
+    private final ArrayDeque<Integer> free;
+
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private boolean[] flipped;
+    private double[] weight;
+    private int[] heaviest;
+    private int[] stack;
+    private final List<AbstractEdge<V, L>> edges;
+    private int size;
+    private int forestEdges;
+    private double forestWeight;
+
+    /**
+     * DynamicMsf is the constructor of the class, the first forest is found with Kruskal -- O(E log E)
+     *
+     * @param graph is the graph, it must be undirected and labelled
+     * @throws IllegalArgumentException if the graph is directed or not labelled
+     */
+    public DynamicMsf(Graph<V, L> graph) {
+        if (graph.isDirected() || !graph.isLabelled()) {
+            throw new IllegalArgumentException("The minimum spanning forest needs an undirected labelled graph");
+        }
+        this.graph = graph;
+        ids = new HashMap<>();
+        forest = new HashMap<>();
+        free = new ArrayDeque<>();
+        int capacity = Math.max(16, graph.numNodes() * 2);
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        flipped = new boolean[capacity];
+        weight = new double[capacity];
+        heaviest = new int[capacity];
+        stack = new int[capacity];
+        edges = new ArrayList<>(capacity);
+        size = 0;
+        for (V node : graph.getNodes()) {
+            track(node);
+        }
+        for (AbstractEdge<V, L> edge : Kruskal.minimumSpanningForest(graph)) {
+            link(edge.getStart(), edge.getEnd(), edge.getLabel());
+        }
+    }
+
+    /**
+     * gets the graph
+     *
+     * @return the graph
+     */
+    public Graph<V, L> getGraph() {
+        return graph;
+    }
+
+    /**
+     * adds a node to the graph, it's a tree of the forest by itself -- O(1)
+     *
+     * @param a it's the node to insert in the graph
+     * @return true if the node is inserted in the graph, false otherwise
+     */
+    public boolean addNode(V a) {
+        if (!graph.addNode(a)) {
+            return false;
+        }
+        track(a);
+        return true;
+    }
+
+    /**
+     * adds an edge to the graph; if its nodes are in different trees the edge joins them, otherwise it takes the
+     * place of the heaviest edge on the cycle it closes when it's lighter -- O(log n) amortized
+     *
+     * @param a it's the first node of the edge
+     * @param b it's the second node of the edge
+     * @param l it's the label of the edge
+     * @return true if the edge is inserted in the graph, false otherwise
+     */
+    public boolean addEdge(V a, V b, L l) {
+        if (!graph.addEdge(a, b, l)) {
+            return false;
+        }
+        if (a.equals(b)) {
+            return true;
+        }
+        int x = ids.get(a);
+        int y = ids.get(b);
+        if (findRoot(x) != findRoot(y)) {
+            link(a, b, l);
+            return true;
+        }
+        evert(x);
+        access(y);
+        splay(y);
+        int max = heaviest[y];
+        if (weight[max] > l.doubleValue()) {
+            AbstractEdge<V, L> old = edges.get(max);
+            cut(old.getStart(), old.getEnd());
+            link(a, b, l);
+        }
+        return true;
+    }
+
+    /**
+     * removes an edge from the graph; if it was in the forest the lightest edge between the two trees it leaves takes
+     * its place -- O(log n) amortized for an edge out of the forest, O(nodes and edges of the smaller tree) otherwise,
+     * that is O(V + E) in the worst case when the edge splits a tree in two halves
+     *
+     * @param a it's the first node of the edge
+     * @param b it's the second node of the edge
+     * @return true if the edge is removed from the graph, false otherwise
+     */
+    public boolean removeEdge(V a, V b) {
+        if (!graph.removeEdge(a, b)) {
+            return false;
+        }
+        if (forest.get(a).containsKey(b)) {
+            cut(a, b);
+            replace(a, b);
+        }
+        return true;
+    }
+
+    /**
+     * removes a node from the graph with all its edges, the trees it joined are put back together with the lightest
+     * edges left -- O(degree) edge removals
+     *
+     * @param a it's the node to remove
+     * @return true if the node is removed from the graph, false otherwise
+     */
+    public boolean removeNode(V a) {
+        if (a == null || !graph.containsNode(a)) {
+            return false;
+        }
+        for (V next : new ArrayList<>(graph.getNeighbours(a))) {
+            removeEdge(a, next);
+        }
+        graph.removeNode(a);
+        forest.remove(a);
+        free.push(ids.remove(a));
+        return true;
+    }
+
+    /**
+     * gets the edges of the minimum spanning forest -- O(V + forest edges)
+     *
+     * @return the edges of the forest
+     */
+    public Collection<AbstractEdge<V, L>> getForest() {
+        Collection<AbstractEdge<V, L>> result = new ArrayList<>(forestEdges);
+        for (Map.Entry<V, Map<V, Integer>> entry : forest.entrySet()) {
+            for (Integer id : entry.getValue().values()) {
+                if (edges.get(id).getStart().equals(entry.getKey())) {
+                    result.add(edges.get(id));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * gets the number of edges of the forest -- O(1)
+     *
+     * @return the number of edges of the forest
+     */
+    public int numEdges() {
+        return forestEdges;
+    }
+
+    /**
+     * gets the sum of the labels of the edges of the forest -- O(1)
+     *
+     * @return the weight of the forest
+     */
+    public double weight() {
+        return forestWeight;
+    }
+
+    /**
+     * checks if two nodes are in the same tree of the forest -- O(log n) amortized
+     *
+     * @param a it's the first node
+     * @param b it's the second node
+     * @return true if there is a path from a to b
+     */
+    public boolean connected(V a, V b) {
+        Integer x = ids.get(a);
+        Integer y = ids.get(b);
+        return x != null && y != null && findRoot(x) == findRoot(y);
+    }
+
+    /**
+     * finds the lightest edge that joins the trees of a and b after the forest edge between them is cut and links it.
+     * The two trees are visited one node at a time each, so the visit stops when the smaller one is done
+     *
+     * @param a it's the first node of the cut edge
+     * @param b it's the second node of the cut edge
+     */
+    private void replace(V a, V b) {
+        List<V> seenA = new ArrayList<>();
+        List<V> seenB = new ArrayList<>();
+        Set<V> visitedA = new HashSet<>();
+        Set<V> visitedB = new HashSet<>();
+        seenA.add(a);
+        visitedA.add(a);
+        seenB.add(b);
+        visitedB.add(b);
+        int nextA = 0;
+        int nextB = 0;
+        while (nextA < seenA.size() && nextB < seenB.size()) {
+            visit(seenA.get(nextA++), seenA, visitedA);
+            visit(seenB.get(nextB++), seenB, visitedB);
+        }
+        Set<V> side = nextA == seenA.size() ? visitedA : visitedB;
+        V bestStart = null;
+        V bestEnd = null;
+        L bestLabel = null;
+        for (V node : side) {
+            for (V next : graph.getNeighbours(node)) {
+                if (!side.contains(next)) {
+                    L label = graph.getLabel(node, next);
+                    if (bestLabel == null || label.doubleValue() < bestLabel.doubleValue()) {
+                        bestStart = node;
+                        bestEnd = next;
+                        bestLabel = label;
+                    }
+                }
+            }
+        }
+        if (bestLabel != null) {
+            link(bestStart, bestEnd, bestLabel);
+        }
+    }
+
+    /**
+     * adds the forest neighbours of a node not yet visited to a visit
+     *
+     * @param node    is the node
+     * @param seen    are the nodes found by the visit, in order
+     * @param visited are the nodes found by the visit
+     */
+    private void visit(V node, List<V> seen, Set<V> visited) {
+        for (V next : forest.get(node).keySet()) {
+            if (visited.add(next)) {
+                seen.add(next);
+            }
+        }
+    }
+
+    /**
+     * gives a node of the graph its node in the link-cut tree
+     *
+     * @param node is the node of the graph
+     */
+    private void track(V node) {
+        ids.put(node, create(Double.NEGATIVE_INFINITY, null));
+        forest.put(node, new HashMap<>());
+    }
+
+    /**
+     * puts an edge in the forest, its nodes must be in different trees
+     *
+     * @param a it's the first node of the edge
+     * @param b it's the second node of the edge
+     * @param l it's the label of the edge
+     */
+    private void link(V a, V b, L l) {
+        int e = create(l.doubleValue(), new Edge<>(a, b, l));
+        evert(e);
+        parent[e] = ids.get(a);
+        evert(ids.get(b));
+        parent[ids.get(b)] = e;
+        forest.get(a).put(b, e);
+        forest.get(b).put(a, e);
+        forestEdges++;
+        forestWeight += l.doubleValue();
+    }
+
+    /**
+     * takes an edge out of the forest
+     *
+     * @param a it's the first node of the edge
+     * @param b it's the second node of the edge
+     */
+    private void cut(V a, V b) {
+        int e = forest.get(a).remove(b);
+        forest.get(b).remove(a);
+        cut(e, ids.get(a));
+        cut(e, ids.get(b));
+        forestEdges--;
+        forestWeight -= weight[e];
+        edges.set(e, null);
+        free.push(e);
+    }
+
+    /**
+     * creates a node of the link-cut tree, reusing a free one if there is one
+     *
+     * @param value is the weight of the node
+     * @param edge  is the edge of the node, null for a node of the graph
+     * @return the node
+     */
+    private int create(double value, AbstractEdge<V, L> edge) {
+        int x;
+        if (!free.isEmpty()) {
+            x = free.pop();
+            edges.set(x, edge);
+        } else {
+            x = size++;
+            if (x == left.length) {
+                int capacity = left.length * 2;
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+                parent = Arrays.copyOf(parent, capacity);
+                flipped = Arrays.copyOf(flipped, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+                heaviest = Arrays.copyOf(heaviest, capacity);
+                stack = new int[capacity];
+            }
+            edges.add(edge);
+        }
+        left[x] = NIL;
+        right[x] = NIL;
+        parent[x] = NIL;
+        flipped[x] = false;
+        weight[x] = value;
+        heaviest[x] = x;
+        return x;
+    }
+
+    /**
+     * checks if a node is the root of its splay tree
+     *
+     * @param x is the node
+     * @return true if the parent of x is not in its splay tree
+     */
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    /**
+     * recomputes the heaviest node of the splay subtree of a node
+     *
+     * @param x is the node
+     */
+    private void pull(int x) {
+        heaviest[x] = x;
+        if (left[x] != NIL && weight[heaviest[left[x]]] > weight[heaviest[x]]) {
+            heaviest[x] = heaviest[left[x]];
+        }
+        if (right[x] != NIL && weight[heaviest[right[x]]] > weight[heaviest[x]]) {
+            heaviest[x] = heaviest[right[x]];
+        }
+    }
+
+    /**
+     * pushes a pending reversal of a node to its children
+     *
+     * @param x is the node
+     */
+    private void push(int x) {
+        if (flipped[x]) {
+            int temp = left[x];
+            left[x] = right[x];
+            right[x] = temp;
+            if (left[x] != NIL) {
+                flipped[left[x]] = !flipped[left[x]];
+            }
+            if (right[x] != NIL) {
+                flipped[right[x]] = !flipped[right[x]];
+            }
+            flipped[x] = false;
+        }
+    }
+
+    /**
+     * rotates a node over its parent
+     *
+     * @param x is the node
+     */
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        if (!isSplayRoot(p)) {
+            if (left[g] == p) {
+                left[g] = x;
+            } else {
+                right[g] = x;
+            }
+        }
+        parent[x] = g;
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NIL) {
+                parent[right[x]] = p;
+            }
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NIL) {
+                parent[left[x]] = p;
+            }
+            left[x] = p;
+        }
+        parent[p] = x;
+        pull(p);
+        pull(x);
+    }
+
+    /**
+     * moves a node to the root of its splay tree, the pending reversals on the way are pushed first from the top of
+     * the splay tree, the path is kept in a stack shared by all the calls
+     *
+     * @param x is the node
+     */
+    private void splay(int x) {
+        int top = 0;
+        for (int y = x; ; y = parent[y]) {
+            stack[top++] = y;
+            if (isSplayRoot(y)) {
+                break;
+            }
+        }
+        while (top > 0) {
+            push(stack[--top]);
+        }
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                rotate((left[p] == x) == (left[parent[p]] == p) ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    /**
+     * makes the path from the root of the tree of a node to the node the preferred path
+     *
+     * @param x is the node
+     */
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    /**
+     * makes a node the root of its tree
+     *
+     * @param x is the node
+     */
+    private void evert(int x) {
+        access(x);
+        flipped[x] = !flipped[x];
+    }
+
+    /**
+     * finds the root of the tree of a node
+     *
+     * @param x is the node
+     * @return the root of the tree
+     */
+    private int findRoot(int x) {
+        access(x);
+        int y = x;
+        push(y);
+        while (left[y] != NIL) {
+            y = left[y];
+            push(y);
+        }
+        splay(y);
+        return y;
+    }
+
+    /**
+     * removes the link between two adjacent nodes of a tree
+     *
+     * @param x is the first node
+     * @param y is the second node
+     */
+    private void cut(int x, int y) {
+        evert(x);
+        access(y);
+        left[y] = NIL;
+        parent[x] = NIL;
+        pull(y);
+    }
+}
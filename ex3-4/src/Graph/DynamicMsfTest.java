@@ -0,0 +1,88 @@
+package Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for DynamicMsf
+ */
+public class DynamicMsfTest {
+
+    /**
+     * Test for check that a lighter edge takes the place of the heaviest edge of the cycle it closes and that a
+     * removed forest edge is replaced by the lightest edge between the two trees
+     */
+    @Test
+    public void TestCycle() {
+        Graph<String, Float> graph = new Graph<>(false, true);
+        DynamicMsf<String, Float> msf = new DynamicMsf<>(graph);
+        for (String node : List.of("a", "b", "c", "d")) {
+            assertTrue(msf.addNode(node));
+        }
+        assertTrue(msf.addEdge("a", "b", 1f));
+        assertTrue(msf.addEdge("b", "c", 5f));
+        assertTrue(msf.addEdge("c", "d", 2f));
+        assertFalse(msf.connected("a", "e"));
+        assertEquals(8, msf.weight(), 0);
+        assertTrue(msf.addEdge("a", "d", 3f));
+        assertEquals(3, msf.numEdges());
+        assertEquals(6, msf.weight(), 0);
+        assertTrue(msf.addEdge("a", "c", 9f));
+        assertEquals(6, msf.weight(), 0);
+        assertTrue(msf.removeEdge("a", "d"));
+        assertEquals(8, msf.weight(), 0);
+        assertTrue(msf.removeEdge("b", "c"));
+        assertEquals(12, msf.weight(), 0);
+        assertTrue(msf.removeEdge("a", "c"));
+        assertEquals(2, msf.numEdges());
+        assertFalse(msf.connected("a", "c"));
+        assertFalse(msf.removeEdge("a", "c"));
+        assertEquals(2, graph.numEdges());
+    }
+
+    /**
+     * Test for check that after random changes the forest weighs as the one found from scratch by Kruskal
+     */
+    @Test
+    public void TestRandomUpdates() {
+        Graph<Integer, Float> graph = PrimTest.randomGraph(300, 600, 5);
+        DynamicMsf<Integer, Float> msf = new DynamicMsf<>(graph);
+        Random random = new Random(9);
+        List<Integer> nodes = new ArrayList<>(graph.getNodes());
+        for (int step = 0; step < 3000; step++) {
+            Integer a = nodes.get(random.nextInt(nodes.size()));
+            Integer b = nodes.get(random.nextInt(nodes.size()));
+            if (graph.containsEdge(a, b)) {
+                assertTrue(msf.removeEdge(a, b));
+            } else if (!a.equals(b)) {
+                assertTrue(msf.addEdge(a, b, (float) random.nextInt(100)));
+            }
+            if (step % 100 == 0) {
+                Integer removed = nodes.remove(random.nextInt(nodes.size()));
+                assertTrue(msf.removeNode(removed));
+                Integer added = 1000 + step;
+                assertTrue(msf.addNode(added));
+                nodes.add(added);
+            }
+            if (step % 50 == 0) {
+                assertEquals(PrimTest.weight(Kruskal.minimumSpanningForest(graph)), msf.weight(), 1e-3);
+                assertEquals(Kruskal.minimumSpanningForest(graph).size(), msf.numEdges());
+                assertEquals(msf.numEdges(), msf.getForest().size());
+            }
+        }
+        assertEquals(PrimTest.weight(Kruskal.minimumSpanningForest(graph)), PrimTest.weight(msf.getForest()), 1e-3);
+    }
+
+    /**
+     * Test for check that a directed graph is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void TestDirected() {
+        new DynamicMsf<>(new Graph<Integer, Float>(true, true));
+    }
+}
@@ -1,5 +1,8 @@
 package Graph;
 
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
+
 
 /**
  * Edge is a class that represent an edge of a graph
@@ -27,19 +30,19 @@ public class Edge<V, L> implements AbstractEdge<V, L> {
 
     @Override
     public V getStart() {
-        if (start == null) System.out.println("the start of edge is null");
+        if (start == null) Diagnostics.report(Diagnostic.NULL_ENDPOINT);
         return start;
     }
 
     @Override
     public V getEnd() {
-        if (end == null) System.out.println("the end of edge is null");
+        if (end == null) Diagnostics.report(Diagnostic.NULL_ENDPOINT);
         return end;
     }
 
     @Override
     public L getLabel() {
-        if (label == null) System.out.println("the edge's label is null or the graph is unlabelled");
+        if (label == null) Diagnostics.report(Diagnostic.NULL_LABEL);
         return label;
     }
 
@@ -0,0 +1,165 @@
+package Graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * EdgeList is a copy of the edges of a graph in arrays, with the nodes mapped to the ints from 0 to numNodes - 1.
+ * An undirected edge is kept only once and the self loops are dropped, so it's the input of the engines that work
+ * on the list of edges instead of the adjacency of the nodes
+ *
+ * @param <V> is the type of the node
+ * @param <L> is the type of the label
+ */
+class EdgeList<V, L extends Number> {
+    final V[] nodes;
+    final int[] starts;
+    final int[] ends;
+    final double[] weights;
+    final int size;
+    private final IntFunction<AbstractEdge<V, L>> edges;
+
+    /**
+     * EdgeList is the constructor of the class
+     *
+     * @param nodes   the node of each id
+     * @param starts  the id of the start of each edge
+     * @param ends    the id of the end of each edge
+     * @param weights the label of each edge
+     * @param edges   gives the edge of the graph of each index
+     * @param size    the number of edges in the arrays
+     */
+    EdgeList(V[] nodes, int[] starts, int[] ends, double[] weights, IntFunction<AbstractEdge<V, L>> edges, int size) {
+        this.nodes = nodes;
+        this.starts = starts;
+        this.ends = ends;
+        this.weights = weights;
+        this.edges = edges;
+        this.size = size;
+    }
+
+    /**
+     * copies the edges of a graph
+     *
+     * @param graph is the graph
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return the list of the edges of the graph
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <V, L extends Number> EdgeList<V, L> from(Graph<V, L> graph) {
+        V[] nodes = (V[]) graph.getNodes().toArray();
+        Map<V, Integer> ids = new HashMap<>(nodes.length * 2);
+        for (int i = 0; i < nodes.length; i++) {
+            ids.put(nodes[i], i);
+        }
+        int capacity = graph.numEdges();
+        int[] starts = new int[capacity];
+        int[] ends = new int[capacity];
+        double[] weights = new double[capacity];
+        AbstractEdge<V, L>[] edges = new AbstractEdge[capacity];
+        int size = 0;
+        for (AbstractEdge<V, L> edge : (Iterable<AbstractEdge<V, L>>) graph.edges(true)::iterator) {
+            int start = ids.get(edge.getStart());
+            int end = ids.get(edge.getEnd());
+            if (start == end) {
+                continue;
+            }
+            starts[size] = start;
+            ends[size] = end;
+            weights[size] = edge.getLabel().doubleValue();
+            edges[size] = edge;
+            size++;
+        }
+        return new EdgeList<>(nodes, starts, ends, weights, e -> edges[e], size);
+    }
+
+    /**
+     * copies the arcs of a CsrGraph, the edges of the forest are built only when they are asked
+     *
+     * @param graph is the graph
+     * @param <V>   is the type of the node
+     * @return the list of the edges of the graph
+     */
+    @SuppressWarnings("unchecked")
+    static <V> EdgeList<V, Float> from(CsrGraph<V> graph) {
+        V[] nodes = (V[]) graph.getNodes().toArray();
+        int capacity = graph.numEdges();
+        int[] starts = new int[capacity];
+        int[] ends = new int[capacity];
+        double[] weights = new double[capacity];
+        int size = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            for (int arc = graph.firstArc(i); arc < graph.endArc(i); arc++) {
+                int j = graph.target(arc);
+                if (i == j || (!graph.isDirected() && i > j) || size == capacity) {
+                    continue;
+                }
+                starts[size] = i;
+                ends[size] = j;
+                weights[size] = graph.weight(arc);
+                size++;
+            }
+        }
+        return new EdgeList<>(nodes, starts, ends, weights, e -> new Edge<>(nodes[starts[e]], nodes[ends[e]], (float) weights[e]), size);
+    }
+
+    /**
+     * gets an edge of the graph
+     *
+     * @param e the index of the edge
+     * @return the edge
+     */
+    AbstractEdge<V, L> edge(int e) {
+        return edges.apply(e);
+    }
+
+    /**
+     * checks if an edge comes before another one: edges are ordered by weight and then by index, so that every edge
+     * has a different position and the lightest edge of a cut is unique
+     *
+     * @param a the index of the first edge
+     * @param b the index of the second edge
+     * @return true if a comes before b
+     */
+    boolean lighter(int a, int b) {
+        return weights[a] < weights[b] || (weights[a] == weights[b] && a < b);
+    }
+
+    /**
+     * sorts all the edges in the order of {@link #lighter(int, int)} with a parallel sort
+     *
+     * @return the indexes of the edges from the lightest to the heaviest
+     */
+    int[] sortedByWeight() {
+        return sortByWeight(IntStream.range(0, size).toArray());
+    }
+
+    /**
+     * sorts some of the edges in the order of {@link #lighter(int, int)} with a parallel sort. When every weight is a
+     * float, like the labels read by Prim, each edge becomes a long with the bits of the weight before its index and
+     * the longs are sorted, otherwise the indexes are sorted with a comparator
+     *
+     * @param subset the indexes of the edges to sort
+     * @return the same indexes from the lightest to the heaviest edge
+     */
+    int[] sortByWeight(int[] subset) {
+        boolean floats = Arrays.stream(subset).parallel().allMatch(e -> (double) (float) weights[e] == weights[e]);
+        if (floats) {
+            long[] keys = new long[subset.length];
+            IntStream.range(0, subset.length).parallel().forEach(k -> {
+                int bits = Float.floatToIntBits((float) weights[subset[k]]);
+                bits ^= (bits >> 31) & 0x7fffffff;//negative floats in reverse order
+                keys[k] = ((long) bits << 32) | subset[k];
+            });
+            Arrays.parallelSort(keys);
+            return Arrays.stream(keys).parallel().mapToInt(key -> (int) key).toArray();
+        }
+        Integer[] order = Arrays.stream(subset).boxed().toArray(Integer[]::new);
+        Arrays.parallelSort(order, (a, b) -> lighter(a, b) ? -1 : (a.equals(b) ? 0 : 1));
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,354 @@
+package Graph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import PriorityQueue.PriorityQueue;
+
+/**
+ * ExternalKruskal finds the minimum spanning forest of a csv graph that doesn't fit in the heap as a Graph. Only the
+ * names of the nodes and a union-find over their ids stay in memory: the edges are read in blocks as big as the
+ * memory budget, every block is sorted by label and written in a run on disk, then the runs are merged with a
+ * PriorityQueue of their first edges and the merged edges are swept from the lightest as in Kruskal. Every open run
+ * has a read buffer, so when there are more runs than the budget can buffer they are merged in groups into longer
+ * runs first. A pair of nodes repeated in the file counts with its lightest label, where a Graph keeps the first one
+ */
+public class ExternalKruskal {
+
+    /**
+     * the bytes of an edge in a run: start, end and label
+     */
+    static final int RECORD = 12;
+
+    /**
+     * the bytes of an edge in the memory block: the record and its sort key
+     */
+    static final int EDGE_BYTES = RECORD + 8;
+
+    /**
+     * the smallest block of edges, a smaller budget is raised to this
+     */
+    static final int MIN_EDGES = 1024;
+
+    /**
+     * the bytes of the buffer of a run
+     */
+    static final int BUFFER = 1 << 16;
+
+    private ExternalKruskal() {
+    }
+
+    /**
+     * Sink takes the merged edges from the lightest
+     */
+    private interface Sink {
+        /**
+         * takes the next edge
+         *
+         * @param start is the start of the edge
+         * @param end   is the end of the edge
+         * @param label is the label of the edge
+         * @return false if no more edges are needed
+         * @throws IOException if the edge can't be written
+         */
+        boolean add(int start, int end, float label) throws IOException;
+    }
+
+    /**
+     * Run is a sorted run on disk with its next edge
+     */
+    private static final class Run {
+        private final DataInputStream in;
+        private final int order;
+        private long remaining;
+        private int start;
+        private int end;
+        private float label;
+
+        private Run(Path path, long edges, int order) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER));
+            this.order = order;
+            this.remaining = edges;
+        }
+
+        /**
+         * reads the next edge of the run
+         *
+         * @return false if the run is over
+         * @throws IOException if the run can't be read
+         */
+        private boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            try {
+                start = in.readInt();
+                end = in.readInt();
+                label = in.readFloat();
+            } catch (EOFException e) {
+                throw new IOException("A run is shorter than expected");
+            }
+            remaining--;
+            return true;
+        }
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a csv graph, the runs are written in a new
+     * temporary directory
+     *
+     * @param path       is the path of the csv file
+     * @param dictionary is the dictionary where the names of the nodes are interned
+     * @param memory     is the number of bytes that the edges in memory and the buffers of the runs can take
+     * @return the edges of the forest, the nodes are the ids of the names in the dictionary
+     * @throws IOException if the file can't be read, a line is not "start,end,label" or a run can't be written
+     */
+    public static List<Edge<Integer, Float>> minimumSpanningForest(Path path, VertexDictionary dictionary, long memory) throws IOException {
+        Path directory = Files.createTempDirectory("msf");
+        try {
+            return minimumSpanningForest(path, dictionary, memory, directory);
+        } finally {
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a csv graph, the block grows up to the budget and
+     * if all the edges fit in it nothing is written on disk
+     *
+     * @param path       is the path of the csv file
+     * @param dictionary is the dictionary where the names of the nodes are interned
+     * @param memory     is the number of bytes that the edges in memory and the buffers of the runs can take
+     * @param directory  is the directory of the runs, they are deleted at the end
+     * @return the edges of the forest, the nodes are the ids of the names in the dictionary
+     * @throws IOException if the file can't be read, a line is not "start,end,label" or a run can't be written
+     */
+    public static List<Edge<Integer, Float>> minimumSpanningForest(Path path, VertexDictionary dictionary, long memory, Path directory) throws IOException {
+        int capacity = (int) Math.max(MIN_EDGES, Math.min(memory / EDGE_BYTES, Integer.MAX_VALUE - 8));
+        int length = Math.min(capacity, BUFFER);
+        int[] starts = new int[length];
+        int[] ends = new int[length];
+        float[] labels = new float[length];
+        long[] keys = new long[length];
+        List<Path> runs = new ArrayList<>();
+        List<Long> sizes = new ArrayList<>();
+        try {
+            int size = 0;
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                long number = 0;
+                while ((line = reader.readLine()) != null) {
+                    number++;
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    int first = line.indexOf(',');
+                    int second = first < 0 ? -1 : line.indexOf(',', first + 1);
+                    if (second < 0) {
+                        throw new IOException("Bad line " + number + ": " + line);
+                    }
+                    if (size == capacity) {
+                        runs.add(spill(starts, ends, labels, keys, size, directory));
+                        sizes.add((long) size);
+                        size = 0;
+                    } else if (size == starts.length) {
+                        length = (int) Math.min(capacity, 2L * length);
+                        starts = Arrays.copyOf(starts, length);
+                        ends = Arrays.copyOf(ends, length);
+                        labels = Arrays.copyOf(labels, length);
+                        keys = new long[length];
+                    }
+                    starts[size] = dictionary.intern(line, 0, first);
+                    ends[size] = dictionary.intern(line, first + 1, second);
+                    int third = line.indexOf(',', second + 1);
+                    String label = line.substring(second + 1, third < 0 ? line.length() : third);
+                    try {
+                        labels[size] = Float.parseFloat(label);
+                    } catch (NumberFormatException e) {
+                        throw new IOException("The label is not a number: " + label);
+                    }
+                    size++;
+                }
+            }
+            UnionFind trees = new UnionFind(dictionary.size());
+            List<Edge<Integer, Float>> forest = new ArrayList<>();
+            if (runs.isEmpty()) {
+                sort(labels, keys, size);
+                for (int i = 0; i < size && trees.sets() > 1; i++) {
+                    int e = (int) keys[i];
+                    if (trees.union(starts[e], ends[e])) {
+                        forest.add(new Edge<>(starts[e], ends[e], labels[e]));
+                    }
+                }
+                return forest;
+            }
+            if (size > 0) {
+                runs.add(spill(starts, ends, labels, keys, size, directory));
+                sizes.add((long) size);
+            }
+            starts = null;
+            ends = null;
+            labels = null;
+            keys = null;
+            List<Path> level = new ArrayList<>(runs);
+            int fanIn = fanIn(memory);
+            while (level.size() > fanIn) {
+                List<Path> next = new ArrayList<>();
+                List<Long> nextSizes = new ArrayList<>();
+                for (int from = 0; from < level.size(); from += fanIn) {
+                    int to = Math.min(level.size(), from + fanIn);
+                    long total = 0;
+                    for (int i = from; i < to; i++) {
+                        total += sizes.get(i);
+                    }
+                    next.add(to - from == 1 ? level.get(from) : combine(level.subList(from, to), sizes.subList(from, to), directory, runs));
+                    nextSizes.add(total);
+                }
+                level = next;
+                sizes = nextSizes;
+            }
+            merge(level, sizes, (start, end, label) -> {
+                if (trees.union(start, end)) {
+                    forest.add(new Edge<>(start, end, label));
+                }
+                return trees.sets() > 1;
+            });
+            return forest;
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * gets how many runs are merged at once: the budget pays a buffer for every open run, but at least 2 are merged
+     *
+     * @param memory is the memory budget in bytes
+     * @return the number of runs merged at once
+     */
+    static int fanIn(long memory) {
+        return (int) Math.max(2, Math.min(memory / BUFFER, Integer.MAX_VALUE));
+    }
+
+    /**
+     * merges some runs in a new longer run and deletes them
+     *
+     * @param group     are the paths of the runs
+     * @param sizes     are the number of edges of every run
+     * @param directory is the directory of the new run
+     * @param created   is where the path of the new run is added, so that it's deleted at the end
+     * @return the path of the new run
+     * @throws IOException if a run can't be read or written
+     */
+    private static Path combine(List<Path> group, List<Long> sizes, Path directory, List<Path> created) throws IOException {
+        Path run = Files.createTempFile(directory, "run", ".bin");
+        created.add(run);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), BUFFER))) {
+            merge(group, sizes, (start, end, label) -> {
+                out.writeInt(start);
+                out.writeInt(end);
+                out.writeFloat(label);
+                return true;
+            });
+        }
+        for (Path path : group) {
+            Files.delete(path);
+        }
+        return run;
+    }
+
+    /**
+     * merges the runs with a PriorityQueue of their next edges and gives the edges to a sink from the lightest, the
+     * edges with the same label come in the order of their runs
+     *
+     * @param runs  are the paths of the runs
+     * @param sizes are the number of edges of every run
+     * @param sink  takes the merged edges
+     * @throws IOException if a run can't be read or the sink fails
+     */
+    private static void merge(List<Path> runs, List<Long> sizes, Sink sink) throws IOException {
+        Comparator<Run> lighter = (a, b) -> {
+            int c = Float.compare(a.label, b.label);
+            return c != 0 ? c : Integer.compare(a.order, b.order);
+        };
+        PriorityQueue<Run> queue = new PriorityQueue<>(lighter);
+        List<Run> open = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                Run run = new Run(runs.get(i), sizes.get(i), i);
+                open.add(run);
+                if (run.advance()) {
+                    queue.push(run);
+                }
+            }
+            boolean more = true;
+            while (!queue.empty() && more) {
+                Run run = queue.top();
+                queue.pop();
+                more = sink.add(run.start, run.end, run.label);
+                if (run.advance()) {
+                    queue.push(run);
+                }
+            }
+        } finally {
+            for (Run run : open) {
+                run.in.close();
+            }
+        }
+    }
+
+    /**
+     * sorts the edges of the block by label and writes them in a new run
+     *
+     * @param starts    are the starts of the edges
+     * @param ends      are the ends of the edges
+     * @param labels    are the labels of the edges
+     * @param keys      is where the sort keys are written
+     * @param size      is the number of edges of the block
+     * @param directory is the directory of the run
+     * @return the path of the run
+     * @throws IOException if the run can't be written
+     */
+    private static Path spill(int[] starts, int[] ends, float[] labels, long[] keys, int size, Path directory) throws IOException {
+        sort(labels, keys, size);
+        Path run = Files.createTempFile(directory, "run", ".bin");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), BUFFER))) {
+            for (int i = 0; i < size; i++) {
+                int e = (int) keys[i];
+                out.writeInt(starts[e]);
+                out.writeInt(ends[e]);
+                out.writeFloat(labels[e]);
+            }
+        }
+        return run;
+    }
+
+    /**
+     * sorts the positions of the edges of the block by label: every key has the bits of the label turned so that
+     * they compare as the floats do in the high half and the position in the low half
+     *
+     * @param labels are the labels of the edges
+     * @param keys   is where the keys are written, the low half of keys[i] is the position of the i-th lightest edge
+     * @param size   is the number of edges of the block
+     */
+    static void sort(float[] labels, long[] keys, int size) {
+        for (int i = 0; i < size; i++) {
+            int bits = Float.floatToIntBits(labels[i]);
+            keys[i] = (long) (bits ^ ((bits >> 31) & 0x7fffffff)) << 32 | i;
+        }
+        Arrays.parallelSort(keys, 0, size);
+    }
+}
@@ -0,0 +1,99 @@
+package Graph;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for ExternalKruskal
+ */
+public class ExternalKruskalTest {
+
+    /**
+     * Test for check that the forest weighs as the one of Kruskal in memory, with many runs merged two at a time in
+     * many passes, with a few runs merged at once and with none, and that the runs are deleted
+     */
+    @Test
+    public void TestSameWeight() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        Path directory = Files.createTempDirectory("runs");
+        try {
+            GraphGenerator.writeCsv(GraphGenerator.Model.GEOMETRIC, 5000, 20 * ExternalKruskal.MIN_EDGES, 4, file);
+            Collection<? extends AbstractEdge<Integer, Float>> kruskal = Kruskal.minimumSpanningForest(CsvGraphLoader.load(file, new VertexDictionary()));
+            double expected = PrimTest.weight(kruskal);
+            for (long memory : new long[]{0, 3L * ExternalKruskal.BUFFER, 1L << 30}) {
+                VertexDictionary dictionary = new VertexDictionary();
+                List<Edge<Integer, Float>> forest = ExternalKruskal.minimumSpanningForest(file, dictionary, memory, directory);
+                assertEquals(expected, PrimTest.weight(forest), 1e-2);
+                assertEquals(kruskal.size(), forest.size());
+                try (Stream<Path> runs = Files.list(directory)) {
+                    assertEquals(0, runs.count());
+                }
+            }
+        } finally {
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Test for check that the budget pays the buffers of the merged runs
+     */
+    @Test
+    public void TestFanIn() {
+        assertEquals(2, ExternalKruskal.fanIn(0));
+        assertEquals(2, ExternalKruskal.fanIn(ExternalKruskal.BUFFER));
+        assertEquals(1 << 14, ExternalKruskal.fanIn(1L << 30));
+    }
+
+    /**
+     * Test for check that the keys sort the labels as floats, also the negative ones
+     */
+    @Test
+    public void TestSort() {
+        float[] labels = {3f, -1.5f, 0f, -7f, 2.25f, -0f};
+        long[] keys = new long[labels.length];
+        ExternalKruskal.sort(labels, keys, labels.length);
+        float[] sorted = new float[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            sorted[i] = labels[(int) keys[i]];
+        }
+        assertArrayEquals(new float[]{-7f, -1.5f, -0f, 0f, 2.25f, 3f}, sorted, 0);
+    }
+
+    /**
+     * Test for check that the fields after the label are ignored as in CsvGraphLoader
+     */
+    @Test
+    public void TestExtraFields() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        try {
+            Files.writeString(file, "a,b,1.5,extra\nb,c,7,x,y\nc,a,2,\n");
+            List<Edge<Integer, Float>> forest = ExternalKruskal.minimumSpanningForest(file, new VertexDictionary(), 0);
+            assertEquals(3.5, PrimTest.weight(forest), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test for check that a line without a label is refused
+     */
+    @Test(expected = IOException.class)
+    public void TestBadLine() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        try {
+            Files.writeString(file, "a,b,1\nc,d\n");
+            ExternalKruskal.minimumSpanningForest(file, new VertexDictionary(), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
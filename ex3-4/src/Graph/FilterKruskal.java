@@ -0,0 +1,125 @@
+package Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SplittableRandom;
+
+/**
+ * FilterKruskal is a class to implement the Filter-Kruskal algorithm to find the minimum spanning forest of a graph.
+ * Like quicksort, the edges are split around a pivot and the light half is solved first. Before the heavy half is
+ * split in turn, the edges whose nodes are already in the same tree are filtered out, so most of the heavy edges are
+ * dropped without ever being sorted. The partitions and the filters are parallel streams, small parts are sorted and
+ * swept like in Kruskal
+ */
+public class FilterKruskal {
+
+    /**
+     * parts with at most this number of edges are sorted instead of split
+     */
+    static final int SORT_THRESHOLD = 1 << 14;
+
+    private static final int PIVOT_SAMPLE = 15;
+
+    private FilterKruskal() {
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a graph
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(Graph<V, L> graph) {
+        return minimumSpanningForest(EdgeList.from(graph));
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a snapshot of a graph
+     *
+     * @param graph is the snapshot where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V> Collection<? extends AbstractEdge<V, Float>> minimumSpanningForest(CsrGraph<V> graph) {
+        return minimumSpanningForest(EdgeList.from(graph));
+    }
+
+    /**
+     * runs Filter-Kruskal on a list of edges
+     *
+     * @param list is the list of edges
+     * @param <V>  is the type of the node
+     * @param <L>  is the type of the label
+     * @return return the minimum spanning forest
+     */
+    static <V, L extends Number> Collection<AbstractEdge<V, L>> minimumSpanningForest(EdgeList<V, L> list) {
+        UnionFind trees = new UnionFind(list.nodes.length);
+        Collection<AbstractEdge<V, L>> forest = new ArrayList<>();
+        int[] all = new int[list.size];
+        Arrays.setAll(all, e -> e);
+        solve(list, all, trees, forest, new SplittableRandom(list.size));
+        return forest;
+    }
+
+    /**
+     * adds to the forest the edges of a part that join two trees, all the lighter edges are already processed
+     *
+     * @param list   is the list of edges
+     * @param part   are the indexes of the edges of this part
+     * @param trees  are the trees of the forest
+     * @param forest is the forest
+     * @param random chooses the sample of the pivot
+     * @param <V>    is the type of the node
+     * @param <L>    is the type of the label
+     */
+    private static <V, L extends Number> void solve(EdgeList<V, L> list, int[] part, UnionFind trees, Collection<AbstractEdge<V, L>> forest, SplittableRandom random) {
+        if (trees.sets() == 1) {
+            return;
+        }
+        if (part.length > SORT_THRESHOLD) {
+            int pivot = pivot(list, part, random);
+            int[] light = Arrays.stream(part).parallel().filter(e -> !list.lighter(pivot, e)).toArray();
+            if (light.length < part.length) {
+                solve(list, light, trees, forest, random);
+                int[] heavy = Arrays.stream(part).parallel()
+                        .filter(e -> list.lighter(pivot, e) && trees.root(list.starts[e]) != trees.root(list.ends[e]))
+                        .toArray();
+                solve(list, heavy, trees, forest, random);
+                return;
+            }
+        }
+        for (int e : list.sortByWeight(part)) {
+            if (trees.union(list.starts[e], list.ends[e])) {
+                forest.add(list.edge(e));
+            }
+        }
+    }
+
+    /**
+     * chooses the pivot as the median of a random sample of the edges of a part
+     *
+     * @param list   is the list of edges
+     * @param part   are the indexes of the edges of the part
+     * @param random chooses the sample
+     * @return the index of the pivot edge
+     */
+    private static int pivot(EdgeList<?, ?> list, int[] part, SplittableRandom random) {
+        int[] sample = new int[PIVOT_SAMPLE];
+        for (int i = 0; i < PIVOT_SAMPLE; i++) {
+            sample[i] = part[random.nextInt(part.length)];
+        }
+        for (int i = 1; i < PIVOT_SAMPLE; i++) {
+            int e = sample[i];
+            int j = i - 1;
+            while (j >= 0 && list.lighter(e, sample[j])) {
+                sample[j + 1] = sample[j];
+                j--;
+            }
+            sample[j + 1] = e;
+        }
+        return sample[PIVOT_SAMPLE / 2];
+    }
+}
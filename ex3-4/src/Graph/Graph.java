@@ -1,9 +1,17 @@
 package Graph;
 
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
 
 /**
- * The class Graph.Graph is an implementation of the graph interface
+ * The class Graph.Graph is an implementation of the graph interface.
+ * Every node is mapped to the map from its neighbours to the edges that reach them, so an edge is found, labelled
+ * and removed in O(1); the two directions of an undirected edge share the same Edge. A directed graph also maps every
+ * node to the nodes that reach it, with the same Edge objects, so the predecessors of a node are found in O(1)
  *
  * @param <V> is the type of the node
  * @param <L> is the type of the label
@@ -13,8 +21,8 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     private int sizeNode;
     private final boolean directed;
     private final boolean labelled;
-    private final Map<V, HashSet<Edge<V, L>>> neighbourList;
-    final Map<V, Set<V>> adjacencyList;
+    private Map<V, Map<V, Edge<V, L>>> adjacency;
+    private Map<V, Map<V, Edge<V, L>>> incoming;
 
 
     /**
@@ -24,10 +32,21 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
      * @param labelled decides if the graph is labelled or not
      */
     public Graph(boolean directed, boolean labelled) {
+        this(directed, labelled, 0);
+    }
+
+    /**
+     * Graph is the constructor of the class, the maps are sized for the given number of nodes
+     *
+     * @param directed      decides if the graph is oriented or not
+     * @param labelled      decides if the graph is labelled or not
+     * @param expectedNodes is the number of nodes that will be added
+     */
+    public Graph(boolean directed, boolean labelled, int expectedNodes) {
         this.directed = directed;
         this.labelled = labelled;
-        neighbourList = new HashMap<>();
-        adjacencyList = new HashMap<>();
+        adjacency = HashMap.newHashMap(expectedNodes);
+        incoming = directed ? HashMap.newHashMap(expectedNodes) : null;
         sizeEdge = 0;
         sizeNode = 0;
     }
@@ -61,15 +80,17 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     @Override
     public boolean addNode(V a) {
         if (a == null) {
-            System.err.println("the  element is null");
+            Diagnostics.report(Diagnostic.NULL_NODE);
             return false;
         }
-        if (neighbourList.containsKey(a)) {
-            System.err.println("the element is already in the graph");
+        if (adjacency.containsKey(a)) {
+            Diagnostics.report(Diagnostic.NODE_ALREADY_PRESENT);
             return false;
         } else {
-            neighbourList.put(a, new HashSet<>());
-            adjacencyList.put(a, new HashSet<>());
+            adjacency.put(a, new HashMap<>());
+            if (directed) {
+                incoming.put(a, new HashMap<>());
+            }
             sizeNode++;
             return true;
         }
@@ -86,31 +107,32 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     @Override
     public boolean addEdge(V a, V b, L l) {
         if (a == null || b == null) {
-            System.err.println("the elements are null");
+            Diagnostics.report(Diagnostic.NULL_NODE);
         }
         if (!containsNode(a)) {
-            System.err.println("the first element is not in the graph");
+            Diagnostics.report(Diagnostic.NODE_MISSING);
             return false;
         } else if (!containsNode(b)) {
-            System.err.println("the second element is not in the graph");
+            Diagnostics.report(Diagnostic.NODE_MISSING);
             return false;
         } else if (containsEdge(a, b)) {
-            System.err.println("the edge is already in the graph");
+            Diagnostics.report(Diagnostic.EDGE_ALREADY_PRESENT);
             return false;
         }
         if (!labelled && l != null) {
-            System.err.println("the graph is not labelled you can't add a label");
+            Diagnostics.report(Diagnostic.LABEL_NOT_ALLOWED);
             return false;
         }
         if (labelled && l == null) {
-            System.err.println("the graph is labelled you need to add a label");
+            Diagnostics.report(Diagnostic.LABEL_MISSING);
             return false;
         }
-        neighbourList.get(a).add(new Edge<>(a, b, l));
-        adjacencyList.get(a).add(b);
-        if (!directed) {
-            neighbourList.get(b).add(new Edge<>(b, a, l));
-            adjacencyList.get(b).add(a);
+        Edge<V, L> edge = new Edge<>(a, b, l);
+        adjacency.get(a).put(b, edge);
+        if (directed) {
+            incoming.get(b).put(a, edge);
+        } else {
+            adjacency.get(b).put(a, edge);
         }
         sizeEdge++;
         return true;
@@ -127,11 +149,151 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
         if (!labelled) {
             return addEdge(a, b, null);
         } else {
-            System.out.println("the graph is labelled you need to add a label");
+            Diagnostics.report(Diagnostic.LABEL_MISSING);
             return false;
         }
     }
 
+    /**
+     * adds many nodes in the graph, the maps are sized once for the whole batch -- O(batch). A map that is too small
+     * is copied in a bigger one, so the collections got before from getNodes stop following the graph
+     *
+     * @param nodes are the nodes to insert in the graph
+     * @return the result of the batch, with the null nodes and the ones already in the graph as rejected
+     */
+    public BatchResult<V> addNodes(Collection<? extends V> nodes) {
+        BatchResult<V> result = new BatchResult<>();
+        adjacency = grow(adjacency, nodes.size());
+        if (directed) {
+            incoming = grow(incoming, nodes.size());
+        }
+        for (V a : nodes) {
+            if (a == null) {
+                result.reject(null, "the element is null");
+            } else if (adjacency.putIfAbsent(a, new HashMap<>()) != null) {
+                result.reject(a, "the element is already in the graph");
+            } else {
+                if (directed) {
+                    incoming.put(a, new HashMap<>());
+                }
+                sizeNode++;
+                result.accept();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * adds many edges in the graph, the nodes are checked once for the whole batch and the map of every node is sized
+     * for its new edges before they are added -- O(batch). A map that is too small is copied in a bigger one, so the
+     * collections got before from getNeighbours and getPredecessors stop following the graph. In a labelled graph an Edge of the batch is kept as it is,
+     * in an unlabelled graph the labels of the edges are not used
+     *
+     * @param edges are the edges to insert in the graph, from their start to their end
+     * @return the result of the batch, with the edges that could not be added as rejected
+     */
+    public BatchResult<AbstractEdge<V, L>> addEdges(Collection<? extends AbstractEdge<V, L>> edges) {
+        BatchResult<AbstractEdge<V, L>> result = new BatchResult<>();
+        List<AbstractEdge<V, L>> valid = new ArrayList<>(edges.size());
+        Map<V, int[]> outgoing = new HashMap<>();
+        Map<V, int[]> reaching = new HashMap<>();
+        for (AbstractEdge<V, L> edge : edges) {
+            String reason = checkEnds(edge);
+            if (reason == null && labelled && edge.getLabel() == null) {
+                reason = "the graph is labelled you need to add a label";
+            }
+            if (reason != null) {
+                result.reject(edge, reason);
+                continue;
+            }
+            valid.add(edge);
+            outgoing.computeIfAbsent(edge.getStart(), node -> new int[1])[0]++;
+            (directed ? reaching : outgoing).computeIfAbsent(edge.getEnd(), node -> new int[1])[0]++;
+        }
+        outgoing.forEach((node, count) -> adjacency.put(node, grow(adjacency.get(node), count[0])));
+        reaching.forEach((node, count) -> incoming.put(node, grow(incoming.get(node), count[0])));
+        for (AbstractEdge<V, L> edge : valid) {
+            V a = edge.getStart();
+            V b = edge.getEnd();
+            Edge<V, L> added = labelled && edge instanceof Edge<V, L> given ? given : new Edge<>(a, b, labelled ? edge.getLabel() : null);
+            if (adjacency.get(a).putIfAbsent(b, added) != null) {
+                result.reject(edge, "the edge is already in the graph");
+                continue;
+            }
+            if (directed) {
+                incoming.get(b).put(a, added);
+            } else {
+                adjacency.get(b).put(a, added);
+            }
+            sizeEdge++;
+            result.accept();
+        }
+        return result;
+    }
+
+    /**
+     * removes many edges from the graph -- O(batch)
+     *
+     * @param edges are the edges to remove from the graph, only their start and end are used
+     * @return the result of the batch, with the edges that are not in the graph as rejected
+     */
+    public BatchResult<AbstractEdge<V, L>> removeEdges(Collection<? extends AbstractEdge<V, L>> edges) {
+        BatchResult<AbstractEdge<V, L>> result = new BatchResult<>();
+        for (AbstractEdge<V, L> edge : edges) {
+            String reason = checkEnds(edge);
+            if (reason == null && adjacency.get(edge.getStart()).remove(edge.getEnd()) == null) {
+                reason = "the edge is not in the graph";
+            }
+            if (reason != null) {
+                result.reject(edge, reason);
+                continue;
+            }
+            if (directed) {
+                incoming.get(edge.getEnd()).remove(edge.getStart());
+            } else {
+                adjacency.get(edge.getEnd()).remove(edge.getStart());
+            }
+            sizeEdge--;
+            result.accept();
+        }
+        return result;
+    }
+
+    /**
+     * checks that an edge of a batch is not null and its nodes are in the graph
+     *
+     * @param edge is the edge
+     * @return the reason why the edge can't be used, null if it can
+     */
+    private String checkEnds(AbstractEdge<V, L> edge) {
+        if (edge == null || edge.getStart() == null || edge.getEnd() == null) {
+            return "the elements are null";
+        } else if (!containsNode(edge.getStart())) {
+            return "the first element is not in the graph";
+        } else if (!containsNode(edge.getEnd())) {
+            return "the second element is not in the graph";
+        }
+        return null;
+    }
+
+    /**
+     * makes room in a map for more entries, the map is copied in a bigger one only if it would be resized more than once
+     *
+     * @param map   is the map
+     * @param extra is the number of entries that will be added
+     * @param <K>   is the type of the key
+     * @param <T>   is the type of the value
+     * @return the map, or a bigger copy of it
+     */
+    private static <K, T> Map<K, T> grow(Map<K, T> map, int extra) {
+        if (extra <= map.size()) {
+            return map;
+        }
+        Map<K, T> bigger = HashMap.newHashMap(map.size() + extra);
+        bigger.putAll(map);
+        return bigger;
+    }
+
     /**
      * Checks if a node is in the graph
      *
@@ -140,7 +302,7 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
      */
     @Override
     public boolean containsNode(V a) {
-        return neighbourList.containsKey(a);
+        return adjacency.containsKey(a);
     }
 
     /**
@@ -153,14 +315,15 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     @Override
     public boolean containsEdge(V a, V b) {
         if (!containsNode(a) || !containsNode(b)) {
-            System.err.println("The Element is not in the graph");
+            Diagnostics.report(Diagnostic.NODE_MISSING);
             return false;
         }
-        return adjacencyList.get(a).contains(b);
+        return adjacency.get(a).containsKey(b);
     }
 
     /**
-     * removeNode is a method that remove a node from the graph
+     * removeNode is a method that remove a node from the graph with all its edges, the ones that leave it and the ones
+     * that reach it -- O(in-degree + out-degree)
      *
      * @param a it's the node to remove
      * @return return true if the node is removed from the graph, false otherwise
@@ -173,28 +336,34 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
         if (!containsNode(a)) {
             return false;
         } else {
-            Set<V> adjacentNodes = adjacencyList.get(a);
-            for (V adjacentNode : adjacentNodes) {
-                Set<Edge<V, L>> edges = neighbourList.get(adjacentNode);
-                edges.removeIf(edge -> edge.getEnd().equals(a));
-                sizeEdge--;
-                if (!directed) {
-                    Set<V> edgesToRemove = adjacencyList.get(adjacentNode);
-                    edgesToRemove.remove(a);
-
+            Map<V, Edge<V, L>> edges = adjacency.remove(a);
+            sizeEdge -= edges.size();
+            if (directed) {
+                for (V adjacentNode : edges.keySet()) {
+                    if (!adjacentNode.equals(a)) {
+                        incoming.get(adjacentNode).remove(a);
+                    }
+                }
+                for (V predecessor : incoming.remove(a).keySet()) {
+                    if (!predecessor.equals(a)) {
+                        adjacency.get(predecessor).remove(a);
+                        sizeEdge--;
+                    }
+                }
+            } else {
+                for (V adjacentNode : edges.keySet()) {
+                    if (!adjacentNode.equals(a)) {
+                        adjacency.get(adjacentNode).remove(a);
+                    }
                 }
             }
-
-
-            neighbourList.remove(a);
-            adjacencyList.remove(a); // Remove the node entry from the adjacencyList
             sizeNode--;
             return true;
         }
     }
 
     /**
-     * removes an edge from the graph
+     * removes an edge from the graph -- O(1)
      *
      * @param a it's the first node of the edge
      * @param b it's the second node of the edge
@@ -203,33 +372,26 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     @Override
     public boolean removeEdge(V a, V b) {
         if (a == null || b == null) {
-            System.err.println("The Elements are null");
+            Diagnostics.report(Diagnostic.NULL_NODE);
             return false;
         }
         if (!containsNode(a)) {
-            System.err.println("the first element is not in the graph");
+            Diagnostics.report(Diagnostic.NODE_MISSING);
             return false;
         } else if (!containsNode(b)) {
-            System.err.println("the second element is not in the graph");
+            Diagnostics.report(Diagnostic.NODE_MISSING);
             return false;
-        } else if (!containsEdge(a, b)) {
-            System.err.println("the edge is not in the graph");
+        } else if (adjacency.get(a).remove(b) == null) {
+            Diagnostics.report(Diagnostic.EDGE_MISSING);
             return false;
+        }
+        if (directed) {
+            incoming.get(b).remove(a);
         } else {
-            HashSet<Edge<V, L>> edges = neighbourList.get(a);
-            if (edges.removeIf(edge -> edge.getEnd().equals(b))) {
-                adjacencyList.get(a).remove(b);
-                if (!directed) {
-                    HashSet<Edge<V, L>> reverseEdges = neighbourList.get(b);
-                    reverseEdges.removeIf(edge -> edge.getEnd().equals(a));
-                    adjacencyList.get(b).remove(a);
-                }
-                sizeEdge--;
-                return true;
-            } else {
-                return false;
-            }
+            adjacency.get(b).remove(a);
         }
+        sizeEdge--;
+        return true;
     }
 
 
@@ -263,7 +425,7 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     }
 
     /**
-     * gets the label of an edge
+     * gets the label of an edge -- O(1)
      *
      * @param a it's the first node of the edge
      * @param b it's the second node of the edge
@@ -272,23 +434,21 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     @Override
     public L getLabel(V a, V b) {
         if (!labelled) {
-            System.err.println("The Graph is not labelled");
+            Diagnostics.report(Diagnostic.NOT_LABELLED);
             return null;
         }
-        if (!this.containsEdge(a, b)) {
-            System.err.println("The Edge is not in the graph");
-        }
-        HashSet<Edge<V, L>> edges = neighbourList.get(a);
-        for (Edge<V, L> edge : edges) {
-            if (edge.getEnd().equals(b)) {
-                return edge.getLabel();
-            }
+        Map<V, Edge<V, L>> edges = adjacency.get(a);
+        Edge<V, L> edge = edges == null ? null : edges.get(b);
+        if (edge == null) {
+            Diagnostics.report(Diagnostic.EDGE_MISSING);
+            return null;
         }
-        return null;
+        return edge.getLabel();
     }
 
     /**
-     * gets the nodes of the graph
+     * gets the nodes of the graph, the collection is a view that follows addNode and removeNode but a batch insert may
+     * replace it, so it must be got again after addNodes or addEdges
      *
      * @return return the nodes of the graph
      */
@@ -297,23 +457,57 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
         if (numNodes() == 0) {
             return Collections.emptySet();
         }
-        return neighbourList.keySet();
+        return adjacency.keySet();
     }
 
+    /**
+     * gets the edges of the graph, an undirected edge is returned in both directions. The edges are copied in a new
+     * set, to only go through them use edges()
+     *
+     * @return return the edges of the graph
+     */
     @Override
     public Collection<? extends AbstractEdge<V, L>> getEdges() {
-        Collection<Edge<V, L>> edges = new HashSet<>();
         if (numEdges() == 0) {
             return Collections.emptySet();
         }
-        for (Set<Edge<V, L>> edgeSet : neighbourList.values()) {
-            edges.addAll(edgeSet);
-        }
-        return edges;
+        return edges().collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * gets a lazy stream of the edges of the graph, an undirected edge is returned in both directions.
+     * The stream reads the maps of the graph without copying them and it splits by node, so it can run in parallel;
+     * the graph must not change while the stream is used
+     *
+     * @return return the stream of the edges of the graph
+     */
+    public Stream<AbstractEdge<V, L>> edges() {
+        return edges(false);
+    }
+
+    /**
+     * gets a lazy stream of the edges of the graph, see {@link #edges()}
+     *
+     * @param once if true an undirected edge is returned only once, from the node where it was added
+     * @return return the stream of the edges of the graph
+     */
+    public Stream<AbstractEdge<V, L>> edges(boolean once) {
+        return adjacency.entrySet().stream().flatMap(node -> {
+            Stream<Edge<V, L>> edges = node.getValue().values().stream();
+            if (directed) {
+                return edges;
+            }
+            V start = node.getKey();
+            if (once) {
+                return edges.filter(edge -> edge.getStart().equals(start));
+            }
+            return edges.map(edge -> edge.getStart().equals(start) ? edge : new Edge<>(start, edge.getStart(), labelled ? edge.getLabel() : null));
+        });
     }
 
     /**
-     * getNeighbours is a method that return the neighbours of a node
+     * getNeighbours is a method that return the neighbours of a node, the collection is a view that follows addEdge
+     * and removeEdge but a batch insert may replace it, so it must be got again after addNodes or addEdges
      *
      * @param a it's the node to get the neighbours
      * @return return the neighbours of the node
@@ -321,13 +515,52 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     @Override
     public Collection<V> getNeighbours(V a) {
         if (!containsNode(a)) {
-            System.err.println("the node is not in the graph");
+            Diagnostics.report(Diagnostic.NODE_MISSING);
             return Collections.emptySet();
         }
         if (numEdges() == 0) {
             return Collections.emptySet();
         }
-        return adjacencyList.get(a);
+        return adjacency.get(a).keySet();
+    }
+
+    /**
+     * getPredecessors is a method that return the nodes with an edge that reaches a node, in an undirected graph they
+     * are the neighbours -- O(1). Like getNeighbours the collection is a view that a batch insert may replace
+     *
+     * @param a it's the node to get the predecessors
+     * @return return the predecessors of the node
+     */
+    public Collection<V> getPredecessors(V a) {
+        if (!containsNode(a)) {
+            Diagnostics.report(Diagnostic.NODE_MISSING);
+            return Collections.emptySet();
+        }
+        return directed ? incoming.get(a).keySet() : adjacency.get(a).keySet();
+    }
+
+    /**
+     * inDegree is a method that return the number of edges that reach a node, in an undirected graph it's the number
+     * of neighbours -- O(1)
+     *
+     * @param a it's the node
+     * @return return the in-degree of the node, 0 if the node is not in the graph
+     */
+    public int inDegree(V a) {
+        if (!containsNode(a)) {
+            Diagnostics.report(Diagnostic.NODE_MISSING);
+            return 0;
+        }
+        return directed ? incoming.get(a).size() : adjacency.get(a).size();
+    }
+
+    /**
+     * freeze builds a read-only snapshot of the graph in compressed sparse row form, the labels must be numbers
+     *
+     * @return the snapshot of the graph
+     */
+    public CsrGraph<V> freeze() {
+        return CsrGraph.from(this);
     }
 
     /**
@@ -337,10 +570,10 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
      */
     public String toString() {
         StringBuilder s = new StringBuilder();
-        for (V node : neighbourList.keySet()) {
+        for (V node : adjacency.keySet()) {
             s.append(node.toString()).append("->");
-            for (Edge<V, L> edge : neighbourList.get(node)) {
-                s.append(edge.getEnd().toString()).append(" ");
+            for (V next : adjacency.get(node).keySet()) {
+                s.append(next.toString()).append(" ");
 
             }
             s.append("\n");
@@ -0,0 +1,241 @@
+package Graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * GraphFile saves and loads a CsrGraph in a binary file, so a graph is parsed from the csv only once.
+ * The file is little endian and has the header "GRPH", version, flags, nodes, arcs and name bytes, then the offsets
+ * of the names in the UTF-8 name bytes, the names, the offsets of the arcs, the targets and, for a labelled graph,
+ * the labels. The arrays are read back from a mapped buffer with bulk gets
+ */
+public class GraphFile {
+
+    /**
+     * the first four bytes of a graph file
+     */
+    static final int MAGIC = 0x48505247;//"GRPH" in little endian
+
+    /**
+     * the version of the format written by save
+     */
+    static final int VERSION = 1;
+
+    private static final int HEADER = 24;
+    private static final int DIRECTED = 1;
+    private static final int LABELLED = 2;
+
+    private GraphFile() {
+    }
+
+    /**
+     * checks if a file starts with the header of a graph file
+     *
+     * @param path is the path of the file
+     * @return true if the file is a graph file
+     * @throws IOException if the file can't be read
+     */
+    public static boolean isGraphFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            return channel.read(magic, 0) == 4 && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * saves a graph with String nodes
+     *
+     * @param path  is the path of the file
+     * @param graph is the graph
+     * @throws IOException if the file can't be written
+     */
+    public static void save(Path path, CsrGraph<String> graph) throws IOException {
+        save(path, graph, Function.identity());
+    }
+
+    /**
+     * saves a graph, every node is written as its name
+     *
+     * @param path  is the path of the file
+     * @param graph is the graph
+     * @param names gives the name of a node, two nodes must not have the same name
+     * @param <V>   is the type of the node
+     * @throws IOException if the file can't be written or the graph is bigger than 2GB, then the file is not touched
+     */
+    public static <V> void save(Path path, CsrGraph<V> graph, Function<? super V, String> names) throws IOException {
+        int n = graph.numNodes();
+        int arcs = graph.numArcs();
+        byte[][] encoded = new byte[n][];
+        int[] nameOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            encoded[i] = names.apply(graph.node(i)).getBytes(StandardCharsets.UTF_8);
+            nameOffsets[i + 1] = Math.addExact(nameOffsets[i], encoded[i].length);
+        }
+        long size = size(n, arcs, nameOffsets[n], graph.isLabelled());
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The graph file would be bigger than 2GB: " + path);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION)
+                    .putInt((graph.isDirected() ? DIRECTED : 0) | (graph.isLabelled() ? LABELLED : 0))
+                    .putInt(n).putInt(arcs).putInt(nameOffsets[n]);
+            buffer.asIntBuffer().put(nameOffsets);
+            buffer.position(buffer.position() + 4 * (n + 1));
+            for (byte[] name : encoded) {
+                buffer.put(name);
+            }
+            buffer.asIntBuffer().put(graph.offsets());
+            buffer.position(buffer.position() + 4 * (n + 1));
+            buffer.asIntBuffer().put(graph.targets());
+            buffer.position(buffer.position() + 4 * arcs);
+            if (graph.isLabelled()) {
+                float[] labels = new float[arcs];
+                for (int arc = 0; arc < arcs; arc++) {
+                    labels[arc] = graph.label(arc);
+                }
+                buffer.asFloatBuffer().put(labels);
+            }
+            buffer.force();
+        }
+    }
+
+    /**
+     * loads a graph, the nodes are the names
+     *
+     * @param path is the path of the file
+     * @return the graph
+     * @throws IOException if the file can't be read or it's not a graph file
+     */
+    public static CsrGraph<String> load(Path path) throws IOException {
+        return load(path, (names, from, to) -> new String(names, from, to - from, StandardCharsets.UTF_8), String[]::new);
+    }
+
+    /**
+     * loads a graph, the names are interned in a dictionary and the nodes are their ids
+     *
+     * @param path       is the path of the file
+     * @param dictionary is the dictionary where the names are interned
+     * @return the graph
+     * @throws IOException if the file can't be read or it's not a graph file
+     */
+    public static CsrGraph<Integer> load(Path path, VertexDictionary dictionary) throws IOException {
+        return load(path, (names, from, to) -> dictionary.intern(new String(names, from, to - from, StandardCharsets.UTF_8)), Integer[]::new);
+    }
+
+    /**
+     * NodeReader turns the bytes of a name into a node
+     *
+     * @param <V> is the type of the node
+     */
+    private interface NodeReader<V> {
+        V read(byte[] names, int from, int to);
+    }
+
+    /**
+     * loads a graph
+     *
+     * @param path   is the path of the file
+     * @param reader turns every name into a node
+     * @param array  creates the array of the nodes
+     * @param <V>    is the type of the node
+     * @return the graph
+     * @throws IOException if the file can't be read or it's not a graph file
+     */
+    private static <V> CsrGraph<V> load(Path path, NodeReader<V> reader, IntFunction<V[]> array) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER) {
+                throw new IOException("Not a graph file: " + path);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The graph file is bigger than 2GB: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a graph file: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported graph file version " + version + ": " + path);
+            }
+            int flags = buffer.getInt();
+            int n = buffer.getInt();
+            int arcs = buffer.getInt();
+            int nameBytes = buffer.getInt();
+            if (n < 0 || arcs < 0 || nameBytes < 0 || size(n, arcs, nameBytes, (flags & LABELLED) != 0) != size) {
+                throw new IOException("Corrupted graph file: " + path);
+            }
+            int[] nameOffsets = new int[n + 1];
+            buffer.asIntBuffer().get(nameOffsets);
+            buffer.position(buffer.position() + 4 * (n + 1));
+            checkOffsets(nameOffsets, nameBytes, path);
+            byte[] names = new byte[nameBytes];
+            buffer.get(names);
+            V[] nodes = array.apply(n);
+            for (int i = 0; i < n; i++) {
+                nodes[i] = reader.read(names, nameOffsets[i], nameOffsets[i + 1]);
+            }
+            int[] offsets = new int[n + 1];
+            buffer.asIntBuffer().get(offsets);
+            buffer.position(buffer.position() + 4 * (n + 1));
+            int[] targets = new int[arcs];
+            buffer.asIntBuffer().get(targets);
+            buffer.position(buffer.position() + 4 * arcs);
+            checkOffsets(offsets, arcs, path);
+            for (int target : targets) {
+                if (target < 0 || target >= n) {
+                    throw new IOException("Corrupted graph file: " + path);
+                }
+            }
+            float[] labels = null;
+            if ((flags & LABELLED) != 0) {
+                labels = new float[arcs];
+                buffer.asFloatBuffer().get(labels);
+            }
+            return new CsrGraph<>((flags & DIRECTED) != 0, nodes, offsets, targets, labels);
+        }
+    }
+
+    /**
+     * gets the size of a graph file
+     *
+     * @param n         is the number of nodes
+     * @param arcs      is the number of arcs
+     * @param nameBytes is the number of bytes of the names
+     * @param labelled  tells if the arcs have labels
+     * @return the number of bytes of the file
+     */
+    private static long size(int n, int arcs, int nameBytes, boolean labelled) {
+        return HEADER + 4L * (n + 1) + nameBytes + 4L * (n + 1) + 4L * arcs + (labelled ? 4L * arcs : 0);
+    }
+
+    /**
+     * checks that offsets start from 0, never go back and end at the size of what they index
+     *
+     * @param offsets are the offsets
+     * @param end     is the size of what they index
+     * @param path    is the path of the file, for the message
+     * @throws IOException if the offsets are not valid
+     */
+    private static void checkOffsets(int[] offsets, int end, Path path) throws IOException {
+        if (offsets[0] != 0 || offsets[offsets.length - 1] != end) {
+            throw new IOException("Corrupted graph file: " + path);
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) {
+                throw new IOException("Corrupted graph file: " + path);
+            }
+        }
+    }
+}
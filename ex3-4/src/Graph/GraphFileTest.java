@@ -0,0 +1,134 @@
+package Graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for GraphFile
+ */
+public class GraphFileTest {
+
+    /**
+     * Test for check that a saved graph is loaded back with the same nodes, arcs and labels
+     */
+    @Test
+    public void TestSaveLoad() throws IOException {
+        Graph<String, Float> graph = new Graph<>(false, true);
+        graph.addNode("torino");
+        graph.addNode("forlì");
+        graph.addNode("milano");
+        graph.addNode("roma");
+        graph.addEdge("torino", "milano", 125.5f);
+        graph.addEdge("milano", "forlì", 270f);
+        CsrGraph<String> csr = graph.freeze();
+        Path file = Files.createTempFile("graph", ".bin");
+        try {
+            GraphFile.save(file, csr);
+            assertTrue(GraphFile.isGraphFile(file));
+            CsrGraph<String> loaded = GraphFile.load(file);
+            assertFalse(loaded.isDirected());
+            assertTrue(loaded.isLabelled());
+            assertEquals(csr.numNodes(), loaded.numNodes());
+            assertEquals(csr.numArcs(), loaded.numArcs());
+            for (int i = 0; i < csr.numNodes(); i++) {
+                assertEquals(csr.node(i), loaded.node(i));
+                assertEquals(csr.degree(i), loaded.degree(i));
+            }
+            for (int arc = 0; arc < csr.numArcs(); arc++) {
+                assertEquals(csr.target(arc), loaded.target(arc));
+                assertEquals(csr.label(arc), loaded.label(arc), 0);
+            }
+            VertexDictionary dictionary = new VertexDictionary();
+            CsrGraph<Integer> ids = GraphFile.load(file, dictionary);
+            assertEquals(csr.node(1), dictionary.name(ids.node(1)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test for check that a directed unlabelled graph keeps its flags
+     */
+    @Test
+    public void TestDirectedUnlabelled() throws IOException {
+        Graph<String, Float> graph = new Graph<>(true, false);
+        graph.addNode("a");
+        graph.addNode("b");
+        graph.addEdge("a", "b");
+        Path file = Files.createTempFile("graph", ".bin");
+        try {
+            GraphFile.save(file, graph.freeze());
+            CsrGraph<String> loaded = GraphFile.load(file);
+            assertTrue(loaded.isDirected());
+            assertFalse(loaded.isLabelled());
+            assertEquals(1, loaded.numEdges());
+            assertEquals(1, loaded.degree(loaded.indexOf("a")));
+            assertEquals(0, loaded.degree(loaded.indexOf("b")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test for check that a csv file is not taken for a graph file
+     */
+    @Test(expected = IOException.class)
+    public void TestNotGraphFile() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        try {
+            Files.writeString(file, "torino,milano,125.5\nmilano,roma,570\n");
+            assertFalse(GraphFile.isGraphFile(file));
+            GraphFile.load(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test for check that a file with an arc to a missing node or with offsets that go back is refused
+     */
+    @Test
+    public void TestCorrupted() throws IOException {
+        Graph<String, Float> graph = new Graph<>(true, false);
+        graph.addNode("a");
+        graph.addNode("b");
+        graph.addEdge("a", "b");
+        Path file = Files.createTempFile("graph", ".bin");
+        try {
+            GraphFile.save(file, graph.freeze());
+            byte[] saved = Files.readAllBytes(file);
+            ByteBuffer bytes = ByteBuffer.wrap(saved.clone()).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.putInt(saved.length - 4, 1000);
+            assertCorrupted(file, bytes.array());
+            bytes = ByteBuffer.wrap(saved.clone()).order(ByteOrder.LITTLE_ENDIAN);
+            int offsets = 24 + 4 * (bytes.getInt(12) + 1) + bytes.getInt(20);
+            bytes.putInt(offsets + 4, 7);
+            assertCorrupted(file, bytes.array());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * writes some bytes in a file and checks that they are not loaded as a graph
+     *
+     * @param file  is the file
+     * @param bytes are the bytes
+     */
+    private static void assertCorrupted(Path file, byte[] bytes) throws IOException {
+        Files.write(file, bytes);
+        try {
+            GraphFile.load(file);
+            fail("A corrupted graph file was loaded");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("Corrupted graph file"));
+        }
+    }
+}
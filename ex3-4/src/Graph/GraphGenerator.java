@@ -0,0 +1,455 @@
+package Graph;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * GraphGenerator builds seeded random undirected labelled graphs for scale tests, with the nodes from 0 to nodes - 1.
+ * The work is cut in blocks of BLOCK nodes or edges and every block has its own random numbers, seeded from the seed
+ * and the number of the block, so the blocks are built in parallel and the graph is the same for every number of
+ * threads. A graph can be built in memory or written block by block in the csv format read by CsvGraphLoader
+ */
+public class GraphGenerator {
+
+    /**
+     * the number of nodes or edges of a block
+     */
+    static final int BLOCK = 1 << 16;
+
+    /**
+     * the exponent of the degree distribution of a POWER_LAW graph
+     */
+    static final double POWER_LAW_EXPONENT = 2.5;
+
+    /**
+     * Model is the kind of random graph
+     */
+    public enum Model {
+        /**
+         * random points in the unit square joined when their distance is at most the radius that gives the wanted
+         * number of edges on average, the label is the distance times 1000
+         */
+        GEOMETRIC,
+        /**
+         * a road-like grid: every node is joined to the node on its right and the one below it, each edge is kept
+         * with the probability that gives the wanted number of edges (at most about 2 * nodes) and its label is
+         * between 500 and 1500
+         */
+        GRID,
+        /**
+         * Erdős–Rényi G(n, m): the edges join pairs of nodes picked uniformly, the label is between 1 and 1000
+         */
+        ERDOS_RENYI,
+        /**
+         * Chung–Lu: the ends of every edge are picked with a probability that follows a power law with exponent
+         * POWER_LAW_EXPONENT, so a few nodes have most of the edges, the label is between 1 and 1000
+         */
+        POWER_LAW
+    }
+
+    private GraphGenerator() {
+    }
+
+    /**
+     * Chunk is the edges built by a block
+     */
+    private static final class Chunk {
+        private int[] starts = new int[64];
+        private int[] ends = new int[64];
+        private float[] labels = new float[64];
+        private int size = 0;
+
+        private void add(int start, int end, float label) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                labels = Arrays.copyOf(labels, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            labels[size] = label;
+            size++;
+        }
+    }
+
+    /**
+     * Plan builds the blocks of a graph, the data shared by the blocks is computed when the plan is made
+     */
+    private interface Plan {
+        /**
+         * gets the number of blocks
+         *
+         * @return the number of blocks
+         */
+        int blocks();
+
+        /**
+         * builds the edges of a block
+         *
+         * @param block is the number of the block
+         * @return the edges of the block
+         */
+        Chunk block(int block);
+    }
+
+    /**
+     * gives the random numbers of a block, the seed is mixed first because SplittableRandom steps its state by the
+     * same constant, so seeds that differ by a multiple of it would give overlapping numbers
+     *
+     * @param seed   is the seed of the graph
+     * @param stream tells apart the random numbers used for different things
+     * @param block  is the number of the block
+     * @return the random numbers
+     */
+    private static SplittableRandom random(long seed, int stream, int block) {
+        return new SplittableRandom(new SplittableRandom(seed + 0x9E3779B97F4A7C15L * (((long) stream << 32) + block + 1)).nextLong());
+    }
+
+    /**
+     * gets the number of blocks that cover some nodes or edges
+     *
+     * @param count is the number of nodes or edges
+     * @return the number of blocks
+     */
+    private static int blocks(long count) {
+        return (int) ((count + BLOCK - 1) / BLOCK);
+    }
+
+    /**
+     * makes the plan of a graph
+     *
+     * @param model is the kind of graph
+     * @param nodes is the number of nodes
+     * @param edges is the wanted number of edges
+     * @param seed  is the seed of the random numbers
+     * @return the plan
+     * @throws IllegalArgumentException if the number of nodes or edges is negative or the graph has less than 2 nodes
+     *                                  and some edges
+     */
+    private static Plan plan(Model model, int nodes, long edges, long seed) {
+        if (nodes < 0 || edges < 0 || (nodes < 2 && edges > 0)) {
+            throw new IllegalArgumentException("Cannot build " + edges + " edges on " + nodes + " nodes");
+        }
+        if (edges == 0) {
+            return new Plan() {
+                @Override
+                public int blocks() {
+                    return 0;
+                }
+
+                @Override
+                public Chunk block(int b) {
+                    return new Chunk();
+                }
+            };
+        }
+        return switch (model) {
+            case GEOMETRIC -> geometric(nodes, edges, seed);
+            case GRID -> grid(nodes, edges, seed);
+            case ERDOS_RENYI -> pairs(edges, seed, (random, ends) -> {
+                ends[0] = random.nextInt(nodes);
+                ends[1] = random.nextInt(nodes);
+            });
+            case POWER_LAW -> powerLaw(nodes, edges, seed);
+        };
+    }
+
+    /**
+     * makes the plan of a GEOMETRIC graph: the points are put in square cells as big as the radius, so the points
+     * near a point are in its cell and in the 8 around it. There are at most about as many cells as points, a very
+     * sparse graph gets cells bigger than the radius
+     *
+     * @param nodes is the number of nodes
+     * @param edges is the wanted number of edges
+     * @param seed  is the seed of the random numbers
+     * @return the plan
+     */
+    private static Plan geometric(int nodes, long edges, long seed) {
+        double radius = Math.min(1, Math.sqrt(2.0 * edges / ((double) nodes * nodes * Math.PI)));
+        int side = (int) Math.max(1, Math.min(Math.min(1 << 14, Math.ceil(Math.sqrt(nodes))), Math.floor(1 / radius)));
+        float[] x = new float[nodes];
+        float[] y = new float[nodes];
+        int[] cell = new int[nodes];
+        IntStream.range(0, blocks(nodes)).parallel().forEach(b -> {
+            SplittableRandom random = random(seed, 1, b);
+            for (int i = b * BLOCK; i < Math.min(nodes, (b + 1) * BLOCK); i++) {
+                x[i] = (float) random.nextDouble();
+                y[i] = (float) random.nextDouble();
+                cell[i] = Math.min(side - 1, (int) (x[i] * side)) * side + Math.min(side - 1, (int) (y[i] * side));
+            }
+        });
+        int[] cellStart = new int[side * side + 1];
+        for (int i = 0; i < nodes; i++) {
+            cellStart[cell[i] + 1]++;
+        }
+        Arrays.parallelPrefix(cellStart, Integer::sum);
+        int[] cellNodes = new int[nodes];
+        int[] fill = Arrays.copyOf(cellStart, side * side);
+        for (int i = 0; i < nodes; i++) {
+            cellNodes[fill[cell[i]]++] = i;
+        }
+        double squared = radius * radius;
+        return new Plan() {
+            @Override
+            public int blocks() {
+                return GraphGenerator.blocks(nodes);
+            }
+
+            @Override
+            public Chunk block(int b) {
+                Chunk chunk = new Chunk();
+                for (int i = b * BLOCK; i < Math.min(nodes, (b + 1) * BLOCK); i++) {
+                    int cx = cell[i] / side;
+                    int cy = cell[i] % side;
+                    for (int nx = Math.max(0, cx - 1); nx <= Math.min(side - 1, cx + 1); nx++) {
+                        for (int ny = Math.max(0, cy - 1); ny <= Math.min(side - 1, cy + 1); ny++) {
+                            int c = nx * side + ny;
+                            for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+                                int j = cellNodes[k];
+                                double dx = x[i] - x[j];
+                                double dy = y[i] - y[j];
+                                double d = dx * dx + dy * dy;
+                                if (j > i && d <= squared) {
+                                    chunk.add(i, j, (float) (Math.sqrt(d) * 1000));
+                                }
+                            }
+                        }
+                    }
+                }
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * makes the plan of a GRID graph
+     *
+     * @param nodes is the number of nodes
+     * @param edges is the wanted number of edges
+     * @param seed  is the seed of the random numbers
+     * @return the plan
+     */
+    private static Plan grid(int nodes, long edges, long seed) {
+        int side = (int) Math.ceil(Math.sqrt(nodes));
+        long gridEdges = side == 0 ? 0 : 2L * nodes - side - (nodes + side - 1) / side;
+        double keep = gridEdges == 0 ? 0 : Math.min(1, (double) edges / gridEdges);
+        return new Plan() {
+            @Override
+            public int blocks() {
+                return GraphGenerator.blocks(nodes);
+            }
+
+            @Override
+            public Chunk block(int b) {
+                SplittableRandom random = random(seed, 2, b);
+                Chunk chunk = new Chunk();
+                for (int i = b * BLOCK; i < Math.min(nodes, (b + 1) * BLOCK); i++) {
+                    if ((i + 1) % side != 0 && i + 1 < nodes && random.nextDouble() < keep) {
+                        chunk.add(i, i + 1, (float) (500 + 1000 * random.nextDouble()));
+                    }
+                    if (i + side < nodes && random.nextDouble() < keep) {
+                        chunk.add(i, i + side, (float) (500 + 1000 * random.nextDouble()));
+                    }
+                }
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * makes the plan of a POWER_LAW graph, the node i has weight (i + 1)^(-1 / (POWER_LAW_EXPONENT - 1)) and the ends
+     * are picked with a binary search on the running sums of the weights
+     *
+     * @param nodes is the number of nodes
+     * @param edges is the wanted number of edges
+     * @param seed  is the seed of the random numbers
+     * @return the plan
+     */
+    private static Plan powerLaw(int nodes, long edges, long seed) {
+        double[] sums = new double[nodes];
+        double exponent = -1 / (POWER_LAW_EXPONENT - 1);
+        Arrays.parallelSetAll(sums, i -> Math.pow(i + 1, exponent));
+        Arrays.parallelPrefix(sums, Double::sum);
+        double total = nodes == 0 ? 0 : sums[nodes - 1];
+        return pairs(edges, seed, (random, ends) -> {
+            for (int k = 0; k < 2; k++) {
+                int i = Arrays.binarySearch(sums, random.nextDouble() * total);
+                ends[k] = Math.min(nodes - 1, i < 0 ? -i - 1 : i);
+            }
+        });
+    }
+
+    /**
+     * PairPicker picks the ends of an edge
+     */
+    private interface PairPicker {
+        /**
+         * picks the ends of an edge
+         *
+         * @param random are the random numbers of the block
+         * @param ends   is where the two ends are written
+         */
+        void pick(SplittableRandom random, int[] ends);
+    }
+
+    /**
+     * makes the plan of a graph with edges picked one at a time, the pairs are picked with replacement and the self
+     * loops are picked again, a pair picked twice is rejected by Graph
+     *
+     * @param edges  is the number of edges
+     * @param seed   is the seed of the random numbers
+     * @param picker picks the ends of an edge
+     * @return the plan
+     */
+    private static Plan pairs(long edges, long seed, PairPicker picker) {
+        return new Plan() {
+            @Override
+            public int blocks() {
+                return GraphGenerator.blocks(edges);
+            }
+
+            @Override
+            public Chunk block(int b) {
+                SplittableRandom random = random(seed, 3, b);
+                Chunk chunk = new Chunk();
+                int[] ends = new int[2];
+                long count = Math.min(BLOCK, edges - (long) b * BLOCK);
+                for (long e = 0; e < count; e++) {
+                    do {
+                        picker.pick(random, ends);
+                    } while (ends[0] == ends[1]);
+                    chunk.add(ends[0], ends[1], (float) (1 + 999 * random.nextDouble()));
+                }
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * builds all the blocks of a plan in parallel
+     *
+     * @param plan is the plan
+     * @param from is the first block
+     * @param to   is the block after the last one
+     * @return the blocks in order
+     */
+    private static Chunk[] build(Plan plan, int from, int to) {
+        return IntStream.range(from, to).parallel().mapToObj(plan::block).toArray(Chunk[]::new);
+    }
+
+    /**
+     * builds the edges of a random graph
+     *
+     * @param model is the kind of graph
+     * @param nodes is the number of nodes
+     * @param edges is the wanted number of edges
+     * @param seed  is the seed of the random numbers
+     * @return the edges, for POWER_LAW and ERDOS_RENYI the same pair can be there more than once
+     */
+    public static List<Edge<Integer, Float>> edges(Model model, int nodes, long edges, long seed) {
+        Plan plan = plan(model, nodes, edges, seed);
+        Chunk[] chunks = build(plan, 0, plan.blocks());
+        int total = 0;
+        for (Chunk chunk : chunks) {
+            total += chunk.size;
+        }
+        List<Edge<Integer, Float>> list = new ArrayList<>(total);
+        for (Chunk chunk : chunks) {
+            for (int e = 0; e < chunk.size; e++) {
+                list.add(new Edge<>(chunk.starts[e], chunk.ends[e], chunk.labels[e]));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * builds a random graph
+     *
+     * @param model is the kind of graph
+     * @param nodes is the number of nodes
+     * @param edges is the wanted number of edges
+     * @param seed  is the seed of the random numbers
+     * @return the graph, with the nodes from 0 to nodes - 1
+     */
+    public static Graph<Integer, Float> graph(Model model, int nodes, long edges, long seed) {
+        Graph<Integer, Float> graph = new Graph<>(false, true, nodes);
+        graph.addNodes(IntStream.range(0, nodes).boxed().toList());
+        graph.addEdges(edges(model, nodes, edges, seed));
+        return graph;
+    }
+
+    /**
+     * writes a random graph in a csv file, a line "n<start>,n<end>,<label>" for every edge. The blocks are built and
+     * formatted in parallel a few at a time and written in order, so the whole graph is never in memory
+     *
+     * @param model is the kind of graph
+     * @param nodes is the number of nodes
+     * @param edges is the wanted number of edges
+     * @param seed  is the seed of the random numbers
+     * @param path  is the path of the csv file
+     * @return the number of lines written
+     * @throws IOException if the file can't be written
+     */
+    public static long writeCsv(Model model, int nodes, long edges, long seed, Path path) throws IOException {
+        Plan plan = plan(model, nodes, edges, seed);
+        int window = Math.max(1, ForkJoinPool.getCommonPoolParallelism() * 2);
+        long lines = 0;
+        try (OutputStream out = Files.newOutputStream(path)) {
+            for (int from = 0; from < plan.blocks(); from += window) {
+                int to = Math.min(plan.blocks(), from + window);
+                Chunk[] chunks = build(plan, from, to);
+                byte[][] texts = Arrays.stream(chunks).parallel().map(GraphGenerator::format).toArray(byte[][]::new);
+                for (int i = 0; i < chunks.length; i++) {
+                    out.write(texts[i]);
+                    lines += chunks[i].size;
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * formats the edges of a block as csv lines
+     *
+     * @param chunk is the block
+     * @return the lines in UTF-8
+     */
+    private static byte[] format(Chunk chunk) {
+        StringBuilder s = new StringBuilder(chunk.size * 24);
+        for (int e = 0; e < chunk.size; e++) {
+            s.append('n').append(chunk.starts[e]).append(",n").append(chunk.ends[e]).append(',').append(chunk.labels[e]).append('\n');
+        }
+        return s.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Main writes a random graph in a csv file
+     *
+     * @param args are the model, the number of nodes, the number of edges, the seed and the path of the csv file
+     */
+    public static void main(String[] args) {
+        if (args.length != 5) {
+            System.err.println("Usage: java GraphGenerator <geometric|grid|erdos_renyi|power_law> <nodes> <edges> <seed> <file>");
+            System.exit(1);
+        }
+        try {
+            long lines = writeCsv(Model.valueOf(args[0].toUpperCase()), Integer.parseInt(args[1]), Long.parseLong(args[2]), Long.parseLong(args[3]), Path.of(args[4]));
+            System.err.println("Edges written: " + lines);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package Graph;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for GraphGenerator
+ */
+public class GraphGeneratorTest {
+
+    /**
+     * Test for check that the same seed gives the same edges, also when the blocks are built by another pool
+     */
+    @Test
+    public void TestDeterministic() throws Exception {
+        for (GraphGenerator.Model model : GraphGenerator.Model.values()) {
+            List<Edge<Integer, Float>> first = GraphGenerator.edges(model, 3 * GraphGenerator.BLOCK, 200000, 1);
+            ForkJoinPool pool = new ForkJoinPool(3);
+            List<Edge<Integer, Float>> second = pool.submit(() -> GraphGenerator.edges(model, 3 * GraphGenerator.BLOCK, 200000, 1)).get();
+            pool.shutdown();
+            assertEquals(first.size(), second.size());
+            for (int i = 0; i < first.size(); i++) {
+                assertEquals(first.get(i).getStart(), second.get(i).getStart());
+                assertEquals(first.get(i).getEnd(), second.get(i).getEnd());
+                assertEquals(first.get(i).getLabel(), second.get(i).getLabel());
+            }
+            List<Edge<Integer, Float>> other = GraphGenerator.edges(model, 3 * GraphGenerator.BLOCK, 200000, 2);
+            boolean same = other.size() == first.size();
+            for (int i = 0; same && i < first.size(); i++) {
+                same = first.get(i).getLabel().equals(other.get(i).getLabel());
+            }
+            assertFalse(same);
+        }
+    }
+
+    /**
+     * Test for check the number of edges and the shape of every model
+     */
+    @Test
+    public void TestModels() {
+        int nodes = 10000;
+        Graph<Integer, Float> random = GraphGenerator.graph(GraphGenerator.Model.ERDOS_RENYI, nodes, 40000, 3);
+        assertEquals(nodes, random.numNodes());
+        assertTrue(random.numEdges() > 39900 && random.numEdges() <= 40000);
+
+        Graph<Integer, Float> geometric = GraphGenerator.graph(GraphGenerator.Model.GEOMETRIC, nodes, 40000, 3);
+        assertTrue(geometric.numEdges() > 36000 && geometric.numEdges() < 44000);
+        double radius = Math.sqrt(2.0 * 40000 / ((double) nodes * nodes * Math.PI)) * 1000;
+        for (AbstractEdge<Integer, Float> edge : geometric.getEdges()) {
+            assertTrue(edge.getLabel() <= radius + 0.01);
+        }
+
+        Graph<Integer, Float> grid = GraphGenerator.graph(GraphGenerator.Model.GRID, nodes, 3 * nodes, 3);
+        assertEquals(2 * nodes - 200, grid.numEdges());
+        for (int node = 0; node < nodes; node++) {
+            assertTrue(grid.getNeighbours(node).size() >= 2 && grid.getNeighbours(node).size() <= 4);
+        }
+
+        Graph<Integer, Float> power = GraphGenerator.graph(GraphGenerator.Model.POWER_LAW, nodes, 40000, 3);
+        int max = 0;
+        for (int node = 0; node < nodes; node++) {
+            max = Math.max(max, power.getNeighbours(node).size());
+        }
+        assertTrue(max > 50 * 8);
+    }
+
+    /**
+     * Test for check that a graph written in csv is read back with the same edges
+     */
+    @Test
+    public void TestWriteCsv() throws IOException {
+        Path file = Files.createTempFile("graph", ".csv");
+        try {
+            long lines = GraphGenerator.writeCsv(GraphGenerator.Model.GEOMETRIC, 5 * GraphGenerator.BLOCK, 500000, 5, file);
+            VertexDictionary dictionary = new VertexDictionary();
+            Graph<Integer, Float> read = CsvGraphLoader.load(file, dictionary);
+            List<Edge<Integer, Float>> edges = GraphGenerator.edges(GraphGenerator.Model.GEOMETRIC, 5 * GraphGenerator.BLOCK, 500000, 5);
+            assertEquals(edges.size(), lines);
+            assertEquals(edges.size(), read.numEdges());
+            for (int i = 0; i < edges.size(); i += 97) {
+                Edge<Integer, Float> edge = edges.get(i);
+                int start = dictionary.indexOf("n" + edge.getStart());
+                int end = dictionary.indexOf("n" + edge.getEnd());
+                assertEquals(edge.getLabel(), read.getLabel(start, end), 0);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test for check that a graph with too few nodes for its edges is refused
+     */
+    @Test
+    public void TestSparse() {
+        for (GraphGenerator.Model model : GraphGenerator.Model.values()) {
+            assertTrue(GraphGenerator.edges(model, 10, 0, 1).isEmpty());
+        }
+        assertEquals(100000, GraphGenerator.graph(GraphGenerator.Model.GEOMETRIC, 100000, 0, 1).numNodes());
+        List<Edge<Integer, Float>> sparse = GraphGenerator.edges(GraphGenerator.Model.GEOMETRIC, 1 << 20, 10, 2);
+        assertTrue(sparse.size() < 100);
+        double radius = Math.sqrt(2.0 * 10 / ((double) (1 << 20) * (1 << 20) * Math.PI)) * 1000;
+        for (Edge<Integer, Float> edge : sparse) {
+            assertTrue(edge.getLabel() <= radius + 0.01);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void TestTooFewNodes() {
+        GraphGenerator.edges(GraphGenerator.Model.ERDOS_RENYI, 1, 10, 0);
+    }
+}
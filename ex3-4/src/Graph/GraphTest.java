@@ -1,7 +1,15 @@
 package Graph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import Diagnostics.CountingSink;
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -239,6 +247,209 @@ public class GraphTest {
         assertEquals(0, graph.numEdges());
         assertEquals(4, graph.numNodes());
     }
-}
 
+    /**
+     * Test for check that the snapshot of a graph has the same nodes and edges and does not change with the graph
+     */
+    @Test
+    public void TestFreeze() {
+        Graph<Integer, Float> g = new Graph<>(false, true);
+        g.addNode(1);
+        g.addNode(2);
+        g.addNode(3);
+        g.addNode(4);
+        g.addEdge(1, 2, 1.5f);
+        g.addEdge(2, 3, 2.5f);
+        CsrGraph<Integer> csr = g.freeze();
+        g.addEdge(3, 4, 3.5f);
+        assertEquals(4, csr.numNodes());
+        assertEquals(2, csr.numEdges());
+        assertEquals(4, csr.numArcs());
+        int two = csr.indexOf(2);
+        assertEquals(2, csr.degree(two));
+        for (int arc = csr.firstArc(two); arc < csr.endArc(two); arc++) {
+            assertEquals(two, csr.source(arc));
+            assertEquals(g.getLabel(2, csr.node(csr.target(arc))), csr.label(arc), 0);
+        }
+        assertEquals(-1, csr.indexOf(5));
+        int[] component = csr.components();
+        assertEquals(component[csr.indexOf(1)], component[csr.indexOf(3)]);
+        assertNotEquals(component[csr.indexOf(1)], component[csr.indexOf(4)]);
+        Graph<Integer, Float> copy = csr.toGraph();
+        assertEquals(4, copy.numNodes());
+        assertEquals(2, copy.numEdges());
+        assertEquals(2.5f, copy.getLabel(3, 2), 0);
+    }
+
+    /**
+     * Test for check that the snapshot counts an undirected self-loop once, like the graph
+     */
+    @Test
+    public void TestFreezeSelfLoop() {
+        Graph<Integer, Float> g = new Graph<>(false, true);
+        g.addNode(1);
+        g.addNode(2);
+        g.addEdge(1, 1, 0.5f);
+        assertEquals(1, g.numEdges());
+        CsrGraph<Integer> csr = g.freeze();
+        assertEquals(1, csr.numArcs());
+        assertEquals(1, csr.numEdges());
+        g.addEdge(1, 2, 1.5f);
+        csr = g.freeze();
+        assertEquals(g.numEdges(), csr.numEdges());
+        Graph<Integer, Float> copy = csr.toGraph();
+        assertEquals(2, copy.numEdges());
+        assertEquals(0.5f, copy.getLabel(1, 1), 0);
+    }
+
+    /**
+     * Test for check that removing an edge removes both directions and removing a node removes the edges that reach it
+     */
+    @Test
+    public void TestRemoveEdgeAndNode() {
+        Graph<Integer, Float> g = new Graph<>(false, true);
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(g.addNode(i));
+        }
+        assertTrue(g.addEdge(1, 2, 1f));
+        assertTrue(g.addEdge(2, 3, 2f));
+        assertTrue(g.addEdge(3, 4, 3f));
+        assertEquals(2f, g.getLabel(3, 2), 0);
+        assertTrue(g.removeEdge(3, 2));
+        assertFalse(g.containsEdge(2, 3));
+        assertFalse(g.removeEdge(2, 3));
+        assertNull(g.getLabel(2, 3));
+        assertEquals(2, g.numEdges());
+        assertTrue(g.removeNode(4));
+        assertFalse(g.getNeighbours(3).contains(4));
+        assertEquals(1, g.numEdges());
+
+        Graph<Integer, Float> d = new Graph<>(true, true);
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(d.addNode(i));
+        }
+        assertTrue(d.addEdge(1, 2, 1f));
+        assertTrue(d.addEdge(3, 2, 2f));
+        assertTrue(d.addEdge(2, 1, 3f));
+        assertTrue(d.removeNode(2));
+        assertEquals(0, d.numEdges());
+        assertTrue(d.getNeighbours(1).isEmpty() && d.getNeighbours(3).isEmpty());
+    }
+
+    /**
+     * Test for check that the predecessors of a directed graph follow the added and removed edges
+     */
+    @Test
+    public void TestPredecessors() {
+        Graph<Integer, String> d = new Graph<>(true, false);
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(d.addNode(i));
+        }
+        assertTrue(d.addEdge(1, 3));
+        assertTrue(d.addEdge(2, 3));
+        assertTrue(d.addEdge(3, 4));
+        assertTrue(d.addEdge(3, 3));
+        assertEquals(3, d.inDegree(3));
+        assertTrue(d.getPredecessors(3).containsAll(List.of(1, 2, 3)));
+        assertTrue(d.getPredecessors(1).isEmpty());
+        assertTrue(d.removeEdge(2, 3));
+        assertEquals(2, d.inDegree(3));
+        assertTrue(d.removeNode(3));
+        assertEquals(0, d.numEdges());
+        assertEquals(0, d.inDegree(4));
+        assertTrue(d.getNeighbours(1).isEmpty());
+    }
+
+    /**
+     * Test for check that the stream of the edges gives both directions or each undirected edge once, also in parallel
+     */
+    @Test
+    public void TestEdgesStream() {
+        Graph<Integer, Float> g = new Graph<>(false, true);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(g.addNode(i));
+        }
+        for (int i = 0; i < 99; i++) {
+            assertTrue(g.addEdge(i, i + 1, (float) i));
+        }
+        assertEquals(198, g.edges().count());
+        assertEquals(99, g.edges(true).parallel().count());
+        assertEquals(99 * 98 / 2, g.edges(true).parallel().mapToDouble(edge -> edge.getLabel()).sum(), 0);
+        assertTrue(g.edges().anyMatch(edge -> edge.getStart() == 5 && edge.getEnd() == 4 && edge.getLabel() == 4f));
+
+        Graph<Integer, Float> d = new Graph<>(true, true);
+        assertTrue(d.addNode(1));
+        assertTrue(d.addNode(2));
+        assertTrue(d.addEdge(1, 2, 1f));
+        assertTrue(d.addEdge(2, 1, 2f));
+        assertEquals(2, d.edges(true).count());
+    }
+
+    /**
+     * Test for check that the batch changes apply the valid entries and report the other ones
+     */
+    @Test
+    public void TestBatch() {
+        Graph<Integer, Float> g = new Graph<>(false, true);
+        BatchResult<Integer> nodes = g.addNodes(Arrays.asList(1, 2, 3, 2, null));
+        assertEquals(3, nodes.accepted());
+        assertEquals(Arrays.asList(2, null), nodes.rejected());
+        assertEquals(3, g.numNodes());
+        BatchResult<AbstractEdge<Integer, Float>> added = g.addEdges(List.of(
+                new Edge<>(1, 2, 1f), new Edge<>(2, 3, 2f), new Edge<>(3, 2, 5f), new Edge<>(3, 4, 3f), new Edge<>(1, 3, null)));
+        assertEquals(2, added.accepted());
+        assertEquals(3, added.rejected().size());
+        assertEquals("the edge is already in the graph", added.reason(2));
+        assertEquals(2, g.numEdges());
+        assertEquals(2f, g.getLabel(3, 2), 0);
+        BatchResult<AbstractEdge<Integer, Float>> removed = g.removeEdges(List.of(new Edge<>(2, 1, 1f), new Edge<>(1, 3, 1f)));
+        assertEquals(1, removed.accepted());
+        assertFalse(removed.allAccepted());
+        assertFalse(g.containsEdge(1, 2));
+        assertEquals(1, g.numEdges());
+    }
 
+    /**
+     * Test for check that the neighbours follow the single changes and that after a batch insert they are got again
+     * with all the new edges
+     */
+    @Test
+    public void TestViewsAfterBatch() {
+        Graph<Integer, Float> g = new Graph<>(true, true);
+        g.addNodes(Arrays.asList(1, 2, 3));
+        g.addEdge(1, 2, 1f);
+        Collection<Integer> neighbours = g.getNeighbours(1);
+        Collection<Integer> predecessors = g.getPredecessors(2);
+        g.addEdge(1, 3, 2f);
+        g.addEdge(3, 2, 4f);
+        assertEquals(Set.of(2, 3), new HashSet<>(neighbours));
+        assertEquals(Set.of(1, 3), new HashSet<>(predecessors));
+        List<Edge<Integer, Float>> batch = new ArrayList<>();
+        for (int i = 4; i < 100; i++) {
+            g.addNode(i);
+            batch.add(new Edge<>(1, i, (float) i));
+            batch.add(new Edge<>(i, 2, (float) i));
+        }
+        assertTrue(g.addEdges(batch).allAccepted());
+        assertEquals(98, g.getNeighbours(1).size());
+        assertEquals(98, g.getPredecessors(2).size());
+        assertTrue(g.getNeighbours(1).contains(99));
+        assertTrue(g.getPredecessors(2).contains(99));
+    }
+
+    /**
+     * Test for check that an invalid input is counted by the diagnostics instead of printed
+     */
+    @Test
+    public void TestDiagnostics() {
+        CountingSink counts = Diagnostics.counts();
+        long missing = counts.count(Diagnostic.NODE_MISSING);
+        long present = counts.count(Diagnostic.NODE_ALREADY_PRESENT);
+        Graph<Integer, String> g = new Graph<>(false, false);
+        assertTrue(g.addNode(1));
+        assertFalse(g.addNode(1));
+        assertFalse(g.addEdge(1, 2));
+        assertEquals(present + 1, counts.count(Diagnostic.NODE_ALREADY_PRESENT));
+        assertEquals(missing + 1, counts.count(Diagnostic.NODE_MISSING));
+    }
+}
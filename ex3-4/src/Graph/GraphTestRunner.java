@@ -5,11 +5,11 @@ import org.junit.runner.Result;
 import org.junit.runner.notification.Failure;
 
 /**
- * GraphTestRunner is a class that run the test of GraphTest
+ * GraphTestRunner is a class that run the tests of Graph and Prim
  */
 public class GraphTestRunner {
     public static void main(String[] args) {
-        Result result = JUnitCore.runClasses(GraphTest.class);
+        Result result = JUnitCore.runClasses(GraphTest.class, PrimTest.class, VertexDictionaryTest.class, CsvGraphLoaderTest.class, GraphFileTest.class, GraphGeneratorTest.class, DynamicMsfTest.class, ExternalKruskalTest.class, ComponentPrimTest.class);
         for (Failure failure : result.getFailures()) {
             System.out.println(failure.toString());
         }
@@ -0,0 +1,60 @@
+package Graph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Kruskal is a class to implement the Kruskal's algorithm to find the minimum spanning forest of a graph.
+ * The edges are sorted once with a parallel sort and then swept from the lightest, an edge enters the forest when a
+ * union-find says that its nodes are in different trees
+ */
+public class Kruskal {
+
+    private Kruskal() {
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a graph
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(Graph<V, L> graph) {
+        return minimumSpanningForest(EdgeList.from(graph));
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a snapshot of a graph
+     *
+     * @param graph is the snapshot where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V> Collection<? extends AbstractEdge<V, Float>> minimumSpanningForest(CsrGraph<V> graph) {
+        return minimumSpanningForest(EdgeList.from(graph));
+    }
+
+    /**
+     * sorts a list of edges and sweeps it
+     *
+     * @param list is the list of edges
+     * @param <V>  is the type of the node
+     * @param <L>  is the type of the label
+     * @return return the minimum spanning forest
+     */
+    static <V, L extends Number> Collection<AbstractEdge<V, L>> minimumSpanningForest(EdgeList<V, L> list) {
+        UnionFind trees = new UnionFind(list.nodes.length);
+        Collection<AbstractEdge<V, L>> forest = new ArrayList<>();
+        for (int e : list.sortedByWeight()) {
+            if (trees.union(list.starts[e], list.ends[e])) {
+                forest.add(list.edge(e));
+                if (trees.sets() == 1) {
+                    break;
+                }
+            }
+        }
+        return forest;
+    }
+}
@@ -1,8 +1,16 @@
 package Graph;
 
-import java.io.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Function;
 
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
+import PriorityQueue.AbstractQueue;
+import PriorityQueue.BucketQueue;
+import PriorityQueue.IntDoubleHeap;
+import PriorityQueue.PairingHeap;
 import PriorityQueue.PriorityQueue;
 
 /**
@@ -11,9 +19,111 @@ import PriorityQueue.PriorityQueue;
 public class Prim {
 
 
-    private static final Graph<String, Float> graph = new Graph<String, Float>(false, true);
+    private static Graph<Integer, Float> graph = new Graph<Integer, Float>(false, true);
+    private static final VertexDictionary dictionary = new VertexDictionary();
     private static int numNode = 0;
 
+    /**
+     * Engine is the implementation used to compute the minimum spanning forest
+     */
+    public enum Engine {
+        /**
+         * lazy Prim over a PriorityQueue of edges, see {@link #minimumSpanningForest(Graph)}
+         */
+        LAZY,
+        /**
+         * lazy Prim over a PairingHeap of edges
+         */
+        PAIRING,
+        /**
+         * lazy Prim over a BucketQueue of edges, only for labels that are non-negative integers
+         */
+        BUCKET,
+        /**
+         * eager Prim with at most one edge per node in the queue, see {@link #minimumSpanningForestEager(Graph)}
+         */
+        EAGER,
+        /**
+         * lazy Prim over int arc ids and an IntDoubleHeap, see {@link #minimumSpanningForestIndexed(Graph)}
+         */
+        INDEXED,
+        /**
+         * parallel Borůvka on the common fork/join pool, see {@link Boruvka}
+         */
+        BORUVKA,
+        /**
+         * Kruskal over the edges sorted with a parallel sort, see {@link Kruskal}
+         */
+        KRUSKAL,
+        /**
+         * Filter-Kruskal with parallel partitions, see {@link FilterKruskal}
+         */
+        FILTER_KRUSKAL,
+        /**
+         * an indexed Prim for every connected component in parallel on the common fork/join pool, see
+         * {@link ComponentPrim}
+         */
+        COMPONENTS,
+        /**
+         * Kruskal for sparse graphs and the indexed Prim for the dense ones, see {@link #chooseEngine(Graph)}
+         */
+        AUTO
+    }
+
+    /**
+     * graphs with at most this number of edges per node are sparse and are given to Kruskal by the AUTO engine
+     */
+    public static final int SPARSE_EDGES_PER_NODE = 16;
+
+    /**
+     * the biggest label the BUCKET engine takes, a BucketQueue has a bucket for every key up to the biggest one
+     */
+    public static final int MAX_BUCKET_LABEL = 1 << 24;
+
+    /**
+     * Minimum spanning Forest is a method that find the minium spanning forest of a graph with the chosen engine
+     *
+     * @param graph  is the graph where we want to find the minimum spanning tree
+     * @param engine is the implementation to use
+     * @param <V>    is the type of the node
+     * @param <L>    is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(Graph<V, L> graph, Engine engine) {
+        switch (engine) {
+            case PAIRING:
+                return minimumSpanningForest(graph, PairingHeap::new);
+            case BUCKET:
+                int maxLabel = integralLabelBound(graph);
+                if (maxLabel < 0) {
+                    Diagnostics.report(Diagnostic.BUCKET_LABELS_NOT_SMALL_INTEGERS);
+                    return minimumSpanningForest(graph);
+                }
+                return minimumSpanningForest(graph, comparator -> new BucketQueue<>(edge -> edge.getLabel().intValue(), maxLabel));
+            case EAGER:
+                return minimumSpanningForestEager(graph);
+            case INDEXED:
+                return minimumSpanningForestIndexed(graph);
+            case BORUVKA:
+                numNode = graph.numNodes();
+                return Boruvka.minimumSpanningForest(graph);
+            case KRUSKAL:
+                numNode = graph.numNodes();
+                return Kruskal.minimumSpanningForest(graph);
+            case FILTER_KRUSKAL:
+                numNode = graph.numNodes();
+                return FilterKruskal.minimumSpanningForest(graph);
+            case COMPONENTS:
+                numNode = graph.numNodes();
+                return ComponentPrim.minimumSpanningForest(graph).getEdges();
+            case AUTO:
+                return minimumSpanningForest(graph, chooseEngine(graph));
+            case LAZY:
+            default:
+                return minimumSpanningForest(graph);
+        }
+    }
+
     /**
      * Minimum spanning Forest is a method that find the minium spanning forest of a graph
      *
@@ -23,10 +133,38 @@ public class Prim {
      * @return return the minimum spanning forest of the graph
      */
     public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(Graph<V, L> graph) {
+        return minimumSpanningForest(graph, PriorityQueue::new);
+    }
+
+    /**
+     * chooseEngine picks the engine for a graph from its density: on a sparse graph sorting all the edges once costs
+     * less than the heap operations of Prim, on a dense graph Prim never looks at most of the heavy edges
+     *
+     * @param graph is the graph
+     * @return KRUSKAL if the graph has at most SPARSE_EDGES_PER_NODE edges per node, INDEXED otherwise
+     */
+    public static Engine chooseEngine(Graph<?, ?> graph) {
+        if (graph.numEdges() <= (long) SPARSE_EDGES_PER_NODE * graph.numNodes()) {
+            return Engine.KRUSKAL;
+        }
+        return Engine.INDEXED;
+    }
+
+    /**
+     * Minimum spanning Forest is a method that find the minium spanning forest of a graph using any implementation of
+     * AbstractQueue for the edges
+     *
+     * @param graph        is the graph where we want to find the minimum spanning tree
+     * @param queueFactory creates the queue of edges from the comparator of their labels
+     * @param <V>          is the type of the node
+     * @param <L>          is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(Graph<V, L> graph, Function<Comparator<Edge<V, L>>, ? extends AbstractQueue<Edge<V, L>>> queueFactory) {
         Comparator<Edge<V, L>> edgeComparator = (o1, o2) -> Double.compare(o1.getLabel().doubleValue(), o2.getLabel().doubleValue());
         Set<V> visited = new HashSet<>();
         Collection<Edge<V, L>> forest = new ArrayList<>();
-        PriorityQueue<Edge<V, L>> queue = new PriorityQueue<>(edgeComparator);
+        AbstractQueue<Edge<V, L>> queue = queueFactory.apply(edgeComparator);
         for (V node : graph.getNodes()) {
             if (!visited.contains(node)) {
                 visited.add(node);
@@ -54,34 +192,205 @@ public class Prim {
         return forest;
     }
 
+    /**
+     * Minimum spanning Forest Eager finds the same forest of {@link #minimumSpanningForest(Graph)} keeping in the
+     * queue only the lightest known edge towards each node that is not in the forest yet. When a lighter edge is found
+     * it replaces the old one with decreaseKey, so the queue holds at most one edge per node and no pop is discarded
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForestEager(Graph<V, L> graph) {
+        Comparator<Edge<V, L>> edgeComparator = (o1, o2) -> Double.compare(o1.getLabel().doubleValue(), o2.getLabel().doubleValue());
+        Set<V> visited = new HashSet<>();
+        Map<V, Edge<V, L>> lightest = new HashMap<>();
+        Collection<Edge<V, L>> forest = new ArrayList<>();
+        PriorityQueue<Edge<V, L>> queue = new PriorityQueue<>(edgeComparator);
+        for (V node : graph.getNodes()) {
+            if (!visited.contains(node)) {
+                visited.add(node);
+                relax(graph, node, visited, lightest, queue);
+                while (!queue.empty()) {
+                    Edge<V, L> edge = queue.top();
+                    queue.pop();
+                    V currentNode = edge.getEnd();
+                    lightest.remove(currentNode);
+                    forest.add(edge);
+                    visited.add(currentNode);
+                    relax(graph, currentNode, visited, lightest, queue);
+                }
+            }
+        }
+        numNode = visited.size();
+        return forest;
+    }
 
     /**
-     * ReadCsv is a method that read the csv file and create the graph
+     * relax updates the lightest edge towards each node adjacent to a node that has just entered the forest
      *
-     * @param path is the path of the csv file
-     */
-    private static void readCsv(String path) {
-        String line;
-        try (BufferedReader br = new BufferedReader(new FileReader(path))) {
-            while ((line = br.readLine()) != null) {
-                String[] split = line.split(",");
-                graph.addNode(split[0]);
-                graph.addNode(split[1]);
-                graph.addEdge(split[0], split[1], Float.valueOf(split[2]));
+     * @param graph    is the graph
+     * @param node     is the node that has entered the forest
+     * @param visited  are the nodes in the forest
+     * @param lightest is the edge in the queue for each node that is not in the forest yet
+     * @param queue    is the queue of edges
+     * @param <V>      is the type of the node
+     * @param <L>      is the type of the label
+     */
+    private static <V, L extends Number> void relax(Graph<V, L> graph, V node, Set<V> visited, Map<V, Edge<V, L>> lightest, PriorityQueue<Edge<V, L>> queue) {
+        for (V next : graph.getNeighbours(node)) {
+            if (visited.contains(next)) {
+                continue;
+            }
+            L label = graph.getLabel(node, next);
+            Edge<V, L> old = lightest.get(next);
+            if (old == null) {
+                Edge<V, L> edge = new Edge<>(node, next, label);
+                lightest.put(next, edge);
+                queue.push(edge);
+            } else if (label.doubleValue() < old.getLabel().doubleValue()) {
+                Edge<V, L> edge = new Edge<>(node, next, label);
+                lightest.put(next, edge);
+                queue.decreaseKey(old, edge);
             }
-        } catch (IOException e) {
-            System.out.println("Error: " + e.getMessage());
         }
     }
 
     /**
-     * printMsf is a method that print the minimum spanning forest
+     * integralLabelBound checks if every label of the graph is a non-negative integer, so that the edges can be kept
+     * in a BucketQueue
+     *
+     * @param graph is the graph to check
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return the biggest label, -1 if some label is negative, has a fractional part or is bigger than
+     * MAX_BUCKET_LABEL
      */
-    private static void printMsf() {
+    public static <V, L extends Number> int integralLabelBound(Graph<V, L> graph) {
+        int max = 0;
+        for (V node : graph.getNodes()) {
+            for (V next : graph.getNeighbours(node)) {
+                double label = graph.getLabel(node, next).doubleValue();
+                if (label < 0 || label > MAX_BUCKET_LABEL || label != Math.rint(label)) {
+                    return -1;
+                }
+                max = Math.max(max, (int) label);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Minimum spanning Forest Indexed finds the same forest of {@link #minimumSpanningForest(Graph)} but the hot loop
+     * works on primitives: the graph is frozen in a CsrGraph and the queue is an IntDoubleHeap of arc ids, so no Edge
+     * is allocated and no label is unboxed for each push
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @param <L>   is the type of the label
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForestIndexed(Graph<V, L> graph) {
+        CsrGraph<V> csr = graph.freeze();
+        Collection<Edge<V, L>> forest = new ArrayList<>();
+        for (int arc : forestArcs(csr)) {
+            V start = csr.node(csr.source(arc));
+            V end = csr.node(csr.target(arc));
+            forest.add(new Edge<>(start, end, graph.getLabel(start, end)));
+        }
+        return forest;
+    }
+
+    /**
+     * Minimum spanning Forest finds the minimum spanning forest of a CsrGraph with the indexed lazy Prim
+     *
+     * @param graph is the graph where we want to find the minimum spanning tree
+     * @param <V>   is the type of the node
+     * @return return the minimum spanning forest of the graph
+     */
+    public static <V> Collection<? extends AbstractEdge<V, Float>> minimumSpanningForest(CsrGraph<V> graph) {
+        Collection<Edge<V, Float>> forest = new ArrayList<>();
+        for (int arc : forestArcs(graph)) {
+            forest.add(new Edge<>(graph.node(graph.source(arc)), graph.node(graph.target(arc)), graph.label(arc)));
+        }
+        return forest;
+    }
+
+    /**
+     * forestArcs runs the lazy Prim on the arrays of a CsrGraph
+     *
+     * @param graph is the graph
+     * @return the arcs of the minimum spanning forest
+     */
+    static int[] forestArcs(CsrGraph<?> graph) {
+        int n = graph.numNodes();
+        boolean[] visited = new boolean[n];
+        IntDoubleHeap queue = new IntDoubleHeap(graph.numArcs());
+        int[] forest = new int[Math.max(n - 1, 0)];
+        int size = 0;
+        int visitedCount = 0;
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            visitedCount++;
+            pushArcs(graph, root, visited, queue);
+            while (!queue.empty()) {
+                int arc = queue.topId();
+                queue.pop();
+                int currentNode = graph.target(arc);
+                if (visited[currentNode]) {
+                    continue;
+                }
+                forest[size++] = arc;
+                visited[currentNode] = true;
+                visitedCount++;
+                pushArcs(graph, currentNode, visited, queue);
+            }
+        }
+        numNode = visitedCount;
+        return Arrays.copyOf(forest, size);
+    }
+
+    /**
+     * pushArcs pushes in the queue the arcs that go from a node to the nodes that are not visited yet
+     *
+     * @param graph   is the graph
+     * @param node    is the id of the node
+     * @param visited tells which nodes are already in the forest
+     * @param queue   is the queue of arcs
+     */
+    private static void pushArcs(CsrGraph<?> graph, int node, boolean[] visited, IntDoubleHeap queue) {
+        for (int arc = graph.firstArc(node); arc < graph.endArc(node); arc++) {
+            if (!visited[graph.target(arc)]) {
+                queue.push(arc, graph.weight(arc));
+            }
+        }
+    }
+
+
+    /**
+     * printMsf is a method that print the minimum spanning forest, the ids are decoded back to the names here
+     *
+     * @param engine   is the implementation used to compute the forest
+     * @param snapshot is the graph loaded from a graph file, null if the graph was read from a csv
+     */
+    private static void printMsf(Engine engine, CsrGraph<Integer> snapshot) {
+        printForest(snapshot != null && engine == Engine.INDEXED
+                ? minimumSpanningForest(snapshot) : minimumSpanningForest(graph, engine));
+    }
+
+    /**
+     * printForest is a method that print the edges of a forest and its summary, the ids are decoded back to the names
+     *
+     * @param forest is the minimum spanning forest
+     */
+    private static void printForest(Collection<? extends AbstractEdge<Integer, Float>> forest) {
         double weight = 0;
-        Collection<? extends AbstractEdge<String, Float>> forest = minimumSpanningForest(graph);
-        for (AbstractEdge<String, Float> edge : forest) {
-            System.out.println(edge);
+        for (AbstractEdge<Integer, Float> edge : forest) {
+            System.out.println(dictionary.name(edge.getStart()) + "," + dictionary.name(edge.getEnd()) + "," + edge.getLabel());
             weight += edge.getLabel().doubleValue();
         }
         System.err.println("Summary:");
@@ -93,16 +402,86 @@ public class Prim {
     }
 
     /**
-     * Main is a method that read the csv file and print the minimum spanning forest
+     * Main is a method that read the graph and print the minimum spanning forest, the graph can be a csv file or a
+     * graph file written by GraphFile; the indexed engine runs directly on a graph file, the other engines on a Graph
+     * built from it
      *
-     * @param args is the path of the csv file
+     * @param args is the path of the graph, optionally preceded by --engine=lazy|pairing|bucket|eager|indexed|boruvka|kruskal|filter_kruskal|components|auto
+     *             and by --save=path to also write the graph in a graph file or by --memory=megabytes to find the
+     *             forest of a csv file with ExternalKruskal, keeping at most that many megabytes of edges in memory
      */
     public static void main(String[] args) {
-        if (args.length == 0) {
-            System.err.println("Usage: java Prim <file>");
+        Engine engine = Engine.LAZY;
+        String path = null;
+        String save = null;
+        long memory = 0;
+        boolean chosen = false;
+        for (String arg : args) {
+            if (arg.startsWith("--engine=")) {
+                chosen = true;
+                try {
+                    engine = Engine.valueOf(arg.substring("--engine=".length()).toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Unknown engine: " + arg.substring("--engine=".length()));
+                    System.exit(1);
+                }
+            } else if (arg.startsWith("--save=")) {
+                save = arg.substring("--save=".length());
+            } else if (arg.startsWith("--memory=")) {
+                long megabytes = 0;
+                try {
+                    megabytes = Long.parseLong(arg.substring("--memory=".length()));
+                } catch (NumberFormatException e) {
+                    System.err.println("The memory budget is not a number of megabytes: " + arg.substring("--memory=".length()));
+                    System.exit(1);
+                }
+                if (megabytes <= 0 || megabytes > Long.MAX_VALUE >> 20) {
+                    System.err.println("The memory budget must be a positive number of megabytes: " + megabytes);
+                    System.exit(1);
+                }
+                memory = megabytes << 20;
+            } else {
+                path = arg;
+            }
+        }
+        if (path == null) {
+            System.err.println("Usage: java Prim [--engine=lazy|pairing|bucket|eager|indexed|boruvka|kruskal|filter_kruskal|components|auto] [--save=<graph file>] [--memory=<megabytes>] <file>");
+            System.exit(1);
+        }
+        if (memory > 0 && (chosen || save != null)) {
+            System.err.println("The memory budget always uses the external Kruskal and can't be used with --engine or --save");
             System.exit(1);
         }
-        readCsv(args[0]);
-        printMsf();
+        if (memory > 0) {
+            try {
+                if (GraphFile.isGraphFile(Path.of(path))) {
+                    System.err.println("The memory budget is only for csv files");
+                    System.exit(1);
+                }
+                List<Edge<Integer, Float>> forest = ExternalKruskal.minimumSpanningForest(Path.of(path), dictionary, memory);
+                numNode = dictionary.size();
+                printForest(forest);
+            } catch (IOException e) {
+                System.out.println("Error: " + e.getMessage());
+            }
+            return;
+        }
+        CsrGraph<Integer> snapshot = null;
+        try {
+            if (GraphFile.isGraphFile(Path.of(path))) {
+                snapshot = GraphFile.load(Path.of(path), dictionary);
+                if (engine != Engine.INDEXED) {
+                    graph = snapshot.toGraph();
+                }
+            } else {
+                graph = CsvGraphLoader.load(Path.of(path), dictionary);
+            }
+            if (save != null) {
+                GraphFile.save(Path.of(save), snapshot != null ? snapshot : graph.freeze(), dictionary::name);
+            }
+        } catch (IOException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+        printMsf(engine, snapshot);
     }
 }
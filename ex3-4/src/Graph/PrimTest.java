@@ -0,0 +1,166 @@
+package Graph;
+
+import java.util.Collection;
+import java.util.Random;
+
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the engines of Prim
+ */
+public class PrimTest {
+
+    /**
+     * builds a random labelled graph with some isolated islands
+     *
+     * @param nodes the number of nodes
+     * @param edges the number of edges to try to add
+     * @param seed  the seed of the random generator
+     * @return the graph
+     */
+    static Graph<Integer, Float> randomGraph(int nodes, int edges, long seed) {
+        Random random = new Random(seed);
+        Graph<Integer, Float> graph = new Graph<>(false, true);
+        for (int i = 0; i < nodes; i++) {
+            graph.addNode(i);
+        }
+        for (int i = 0; i < edges; i++) {
+            int a = random.nextInt(nodes - nodes / 10);
+            int b = random.nextInt(nodes - nodes / 10);
+            if (a != b && !graph.containsEdge(a, b)) {
+                graph.addEdge(a, b, (float) random.nextInt(1000));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * gets the total weight of a forest
+     *
+     * @param forest the forest
+     * @return the sum of the labels
+     */
+    static double weight(Collection<? extends AbstractEdge<Integer, Float>> forest) {
+        double weight = 0;
+        for (AbstractEdge<Integer, Float> edge : forest) {
+            weight += edge.getLabel();
+        }
+        return weight;
+    }
+
+    /**
+     * Test for check the forest of a small graph
+     */
+    @Test
+    public void TestSmallForest() {
+        Graph<Integer, Float> graph = new Graph<>(false, true);
+        for (int i = 1; i <= 6; i++) {
+            graph.addNode(i);
+        }
+        graph.addEdge(1, 2, 4f);
+        graph.addEdge(1, 3, 1f);
+        graph.addEdge(2, 3, 2f);
+        graph.addEdge(3, 4, 5f);
+        graph.addEdge(2, 4, 8f);
+        graph.addEdge(5, 6, 3f);
+        for (Prim.Engine engine : Prim.Engine.values()) {
+            Collection<? extends AbstractEdge<Integer, Float>> forest = Prim.minimumSpanningForest(graph, engine);
+            assertEquals(engine.name(), 4, forest.size());
+            assertEquals(engine.name(), 11.0, weight(forest), 0);
+        }
+    }
+
+    /**
+     * Test for check that every engine finds a forest with the same weight of the lazy Prim
+     */
+    @Test
+    public void TestEnginesSameWeight() {
+        Graph<Integer, Float> graph = randomGraph(500, 3000, 7);
+        Collection<? extends AbstractEdge<Integer, Float>> expected = Prim.minimumSpanningForest(graph);
+        for (Prim.Engine engine : Prim.Engine.values()) {
+            Collection<? extends AbstractEdge<Integer, Float>> forest = Prim.minimumSpanningForest(graph, engine);
+            assertEquals(engine.name(), expected.size(), forest.size());
+            assertEquals(engine.name(), weight(expected), weight(forest), 1e-3);
+        }
+    }
+
+    /**
+     * Test for check that Filter-Kruskal splits big graphs around the pivot and still finds the same weight
+     */
+    @Test
+    public void TestFilterKruskalSplits() {
+        Graph<Integer, Float> graph = randomGraph(5000, 4 * FilterKruskal.SORT_THRESHOLD, 3);
+        Collection<? extends AbstractEdge<Integer, Float>> expected = Kruskal.minimumSpanningForest(graph);
+        Collection<? extends AbstractEdge<Integer, Float>> forest = FilterKruskal.minimumSpanningForest(graph);
+        assertEquals(expected.size(), forest.size());
+        assertEquals(weight(expected), weight(forest), 1e-3);
+    }
+
+    /**
+     * Test for check that the algorithms on the snapshot of a graph find the same weight of the lazy Prim
+     */
+    @Test
+    public void TestCsrSameWeight() {
+        Graph<Integer, Float> graph = randomGraph(500, 3000, 11);
+        Collection<? extends AbstractEdge<Integer, Float>> expected = Prim.minimumSpanningForest(graph);
+        CsrGraph<Integer> csr = graph.freeze();
+        assertEquals(weight(expected), weight(Prim.minimumSpanningForest(csr)), 1e-3);
+        assertEquals(weight(expected), weight(Kruskal.minimumSpanningForest(csr)), 1e-3);
+        assertEquals(weight(expected), weight(FilterKruskal.minimumSpanningForest(csr)), 1e-3);
+        assertEquals(weight(expected), weight(Boruvka.minimumSpanningForest(csr)), 1e-3);
+        assertEquals(expected.size(), Prim.minimumSpanningForest(csr).size());
+    }
+
+    /**
+     * Test for check that the bucket engine falls back to the lazy one when the labels are too big for the buckets
+     */
+    @Test
+    public void TestBucketBigLabels() {
+        Graph<Integer, Float> graph = new Graph<>(false, true);
+        for (int i = 1; i <= 3; i++) {
+            graph.addNode(i);
+        }
+        graph.addEdge(1, 2, 1e9f);
+        graph.addEdge(2, 3, 2f);
+        graph.addEdge(1, 3, 2e9f);
+        assertEquals(-1, Prim.integralLabelBound(graph));
+        long fallbacks = Diagnostics.counts().count(Diagnostic.BUCKET_LABELS_NOT_SMALL_INTEGERS);
+        Collection<? extends AbstractEdge<Integer, Float>> forest = Prim.minimumSpanningForest(graph, Prim.Engine.BUCKET);
+        assertEquals(fallbacks + 1, Diagnostics.counts().count(Diagnostic.BUCKET_LABELS_NOT_SMALL_INTEGERS));
+        assertEquals(2, forest.size());
+        assertEquals(1e9 + 2, weight(forest), 0);
+        graph.removeEdge(1, 2);
+        graph.removeEdge(1, 3);
+        graph.addEdge(1, 2, (float) Prim.MAX_BUCKET_LABEL);
+        assertEquals(Prim.MAX_BUCKET_LABEL, Prim.integralLabelBound(graph));
+    }
+
+    /**
+     * Test for check that the engines rank Double labels by their exact value, also when a float can't tell them apart
+     */
+    @Test
+    public void TestNearEqualDoubleLabels() {
+        Graph<String, Double> graph = new Graph<>(false, true);
+        graph.addNode("a");
+        graph.addNode("b");
+        graph.addNode("c");
+        graph.addEdge("a", "b", 1.0);
+        graph.addEdge("a", "c", 2.00000002);
+        graph.addEdge("b", "c", 2.00000001);
+        for (Prim.Engine engine : Prim.Engine.values()) {
+            double weight = 0;
+            for (AbstractEdge<String, Double> edge : Prim.minimumSpanningForest(graph, engine)) {
+                weight += edge.getLabel();
+            }
+            assertEquals(engine.name(), 3.00000001, weight, 1e-12);
+        }
+        CsrGraph<String> csr = graph.freeze();
+        for (int arc = 0; arc < csr.numArcs(); arc++) {
+            assertEquals(graph.getLabel(csr.node(csr.source(arc)), csr.node(csr.target(arc))), csr.weight(arc), 0);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package Graph;
+
+/**
+ * UnionFind is a disjoint-set forest over the ints from 0 to size - 1, with union by rank and path halving
+ */
+public class UnionFind {
+    private final int[] parent;
+    private final byte[] rank;
+    private int sets;
+
+    /**
+     * UnionFind is the constructor of the class, every element starts in its own set
+     *
+     * @param size the number of elements
+     */
+    public UnionFind(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        sets = size;
+    }
+
+    /**
+     * finds the representative of the set of an element, making every node on the path point to its grandparent
+     *
+     * @param x the element
+     * @return the representative of the set of x
+     */
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * joins the sets of two elements, the root with the lower rank goes under the other one
+     *
+     * @param a the first element
+     * @param b the second element
+     * @return true if the sets are joined, false if a and b were already in the same set
+     */
+    public boolean union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) {
+            return false;
+        }
+        if (rank[ra] < rank[rb]) {
+            int temp = ra;
+            ra = rb;
+            rb = temp;
+        }
+        parent[rb] = ra;
+        if (rank[ra] == rank[rb]) {
+            rank[ra]++;
+        }
+        sets--;
+        return true;
+    }
+
+    /**
+     * checks if two elements are in the same set
+     *
+     * @param a the first element
+     * @param b the second element
+     * @return true if a and b are in the same set
+     */
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * finds the representative of the set of an element without changing the forest, so it can be called by many
+     * threads at the same time while no union is running
+     *
+     * @param x the element
+     * @return the representative of the set of x
+     */
+    public int root(int x) {
+        while (parent[x] != x) {
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * gets the number of disjoint sets
+     *
+     * @return the number of sets
+     */
+    public int sets() {
+        return sets;
+    }
+
+    /**
+     * gets the number of elements
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return parent.length;
+    }
+}
@@ -0,0 +1,207 @@
+package Graph;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * VertexDictionary gives every distinct vertex name a dense int id, starting from 0 in order of first appearance.
+ * The names are copied in a single char array and found with an open addressing table, so a name can be looked up
+ * from a range of a line without creating a String for it; a String is created only when a name is decoded
+ */
+public class VertexDictionary {
+    private char[] chars;
+    private int[] starts;
+    private int[] hashes;
+    private int[] table;
+    private int size;
+
+    /**
+     * VertexDictionary is the constructor of the class
+     */
+    public VertexDictionary() {
+        this(16);
+    }
+
+    /**
+     * VertexDictionary is the constructor of the class
+     *
+     * @param expected the number of names expected, to size the arrays
+     */
+    public VertexDictionary(int expected) {
+        int capacity = Math.max(expected, 16);
+        chars = new char[capacity * 8];
+        starts = new int[capacity + 1];
+        hashes = new int[capacity];
+        table = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        size = 0;
+    }
+
+    /**
+     * hashes a range of chars
+     *
+     * @param s    the chars
+     * @param from the first char of the range
+     * @param to   the char after the last one of the range
+     * @return the hash of the range
+     */
+    private static int hash(CharSequence s, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * checks if a range of chars is the name of an id
+     *
+     * @param id   the id
+     * @param s    the chars
+     * @param from the first char of the range
+     * @param to   the char after the last one of the range
+     * @return true if the range is the name of the id
+     */
+    private boolean matches(int id, CharSequence s, int from, int to) {
+        int start = starts[id];
+        if (starts[id + 1] - start != to - from) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (chars[start++] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * finds the slot of the table of a name
+     *
+     * @param h    the hash of the name
+     * @param s    the chars
+     * @param from the first char of the name
+     * @param to   the char after the last one of the name
+     * @return the slot with the id of the name, or the empty slot where it should go
+     */
+    private int slot(int h, CharSequence s, int from, int to) {
+        int mask = table.length - 1;
+        int i = h & mask;
+        while (table[i] != 0) {
+            int id = table[i] - 1;
+            if (hashes[id] == h && matches(id, s, from, to)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * gets the id of a name, the name gets a new id if it's not in the dictionary -- O(1) expected
+     *
+     * @param s    the chars
+     * @param from the first char of the name
+     * @param to   the char after the last one of the name
+     * @return the id of the name
+     */
+    public int intern(CharSequence s, int from, int to) {
+        int h = hash(s, from, to);
+        int i = slot(h, s, from, to);
+        if (table[i] != 0) {
+            return table[i] - 1;
+        }
+        int id = size++;
+        if (id == hashes.length) {
+            hashes = Arrays.copyOf(hashes, id * 2);
+            starts = Arrays.copyOf(starts, id * 2 + 1);
+        }
+        int start = starts[id];
+        if (start + to - from > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, start + to - from));
+        }
+        for (int c = from; c < to; c++) {
+            chars[start++] = s.charAt(c);
+        }
+        starts[id + 1] = start;
+        hashes[id] = h;
+        table[i] = id + 1;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * gets the id of a name, the name gets a new id if it's not in the dictionary -- O(1) expected
+     *
+     * @param name the name
+     * @return the id of the name
+     */
+    public int intern(CharSequence name) {
+        return intern(name, 0, name.length());
+    }
+
+    /**
+     * interns all the names of another dictionary, in order of their id, without decoding them
+     *
+     * @param other the other dictionary
+     * @return the id in this dictionary of every id of the other one
+     */
+    public int[] internAll(VertexDictionary other) {
+        int[] ids = new int[other.size];
+        CharBuffer names = CharBuffer.wrap(other.chars);
+        for (int id = 0; id < other.size; id++) {
+            ids[id] = intern(names, other.starts[id], other.starts[id + 1]);
+        }
+        return ids;
+    }
+
+    /**
+     * gets the id of a name without adding it
+     *
+     * @param name the name
+     * @return the id of the name, -1 if the name is not in the dictionary
+     */
+    public int indexOf(CharSequence name) {
+        int i = slot(hash(name, 0, name.length()), name, 0, name.length());
+        return table[i] - 1;
+    }
+
+    /**
+     * doubles the table and puts back every id
+     */
+    private void rehash() {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int id = 0; id < size; id++) {
+            int i = hashes[id] & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = id + 1;
+        }
+    }
+
+    /**
+     * decodes an id
+     *
+     * @param id the id
+     * @return the name of the id
+     * @throws IndexOutOfBoundsException if the id is not in the dictionary
+     */
+    public String name(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Unknown id " + id);
+        }
+        return new String(chars, starts[id], starts[id + 1] - starts[id]);
+    }
+
+    /**
+     * gets the number of names
+     *
+     * @return the number of names in the dictionary
+     */
+    public int size() {
+        return size;
+    }
+}
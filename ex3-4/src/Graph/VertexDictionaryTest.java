@@ -0,0 +1,43 @@
+package Graph;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for VertexDictionary
+ */
+public class VertexDictionaryTest {
+
+    /**
+     * Test for check that the same name gets the same id, also when it comes from a range of a line
+     */
+    @Test
+    public void TestIntern() {
+        VertexDictionary dictionary = new VertexDictionary();
+        String line = "torino,milano,125.5";
+        assertEquals(0, dictionary.intern(line, 0, 6));
+        assertEquals(1, dictionary.intern(line, 7, 13));
+        assertEquals(0, dictionary.intern("torino"));
+        assertEquals(1, dictionary.indexOf("milano"));
+        assertEquals(-1, dictionary.indexOf("roma"));
+        assertEquals(2, dictionary.size());
+        assertEquals("milano", dictionary.name(1));
+    }
+
+    /**
+     * Test for check that the ids stay dense and the names are decoded after the arrays grow
+     */
+    @Test
+    public void TestGrow() {
+        VertexDictionary dictionary = new VertexDictionary(1);
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, dictionary.intern("city" + i));
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, dictionary.intern("city" + i));
+            assertEquals("city" + i, dictionary.name(i));
+        }
+        assertEquals(10000, dictionary.size());
+    }
+}
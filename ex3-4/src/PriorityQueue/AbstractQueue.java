@@ -16,7 +16,7 @@ public interface AbstractQueue<E> {
     boolean push(E e); // aggiunge un elemento alla coda -- O(logN)
 
     /**
-     * check if the queue contains an element using the hashset
+     * check if the queue contains an element using the position index
      *
      * @param e the element to check
      * @return true if the element is in the queue, false otherwise
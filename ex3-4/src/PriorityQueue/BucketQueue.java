@@ -0,0 +1,228 @@
+package PriorityQueue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
+
+/**
+ * BucketQueue is a queue for elements with a bounded non-negative integer key, every key has a bucket and the
+ * non-empty buckets are tracked by a two level bitmap. push, contains and remove are O(1), pop and top look for the
+ * next non-empty bucket scanning 64 buckets per word and 4096 per summary word. When the keys are extracted in
+ * non-decreasing order (like in Dijkstra) the scan never goes back, otherwise a push with a key smaller than the
+ * minimum moves the minimum back and the queue stays correct. Elements with the same key come out in any order
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class BucketQueue<E> implements AbstractQueue<E> {
+
+    private final ToIntFunction<E> key;
+    private final ArrayList<E>[] buckets;
+    private final long[] words;
+    private final long[] summary;
+    private final Map<E, Integer> positions;
+    private int minimum;
+    private int size;
+
+    /**
+     * constructor of the class
+     *
+     * @param key    gives the key of an element, it must be between 0 and maxKey
+     * @param maxKey the biggest key that can be pushed
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BucketQueue(ToIntFunction<E> key, int maxKey) {
+        if (maxKey < 0 || maxKey == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The biggest key must be between 0 and " + (Integer.MAX_VALUE - 1));
+        }
+        this.key = key;
+        this.buckets = (ArrayList<E>[]) new ArrayList[maxKey + 1];
+        this.words = new long[(maxKey >>> 6) + 1];
+        this.summary = new long[(words.length >>> 6) + 1];
+        this.positions = new HashMap<>();
+        this.minimum = -1;
+        this.size = 0;
+    }
+
+    /**
+     * marks a bucket as non-empty
+     *
+     * @param k the key of the bucket
+     */
+    private void setBucket(int k) {
+        words[k >>> 6] |= 1L << k;
+        summary[k >>> 12] |= 1L << (k >>> 6);
+    }
+
+    /**
+     * marks a bucket as empty
+     *
+     * @param k the key of the bucket
+     */
+    private void clearBucket(int k) {
+        int w = k >>> 6;
+        words[w] &= ~(1L << k);
+        if (words[w] == 0) {
+            summary[w >>> 6] &= ~(1L << w);
+        }
+    }
+
+    /**
+     * finds the first non-empty bucket with key greater or equal than from
+     *
+     * @param from the first key to check
+     * @return the key of the bucket, -1 if all the buckets from there are empty
+     */
+    private int nextBucket(int from) {
+        int w = from >>> 6;
+        if (w >= words.length) {
+            return -1;
+        }
+        long word = words[w] & (-1L << from);
+        if (word != 0) {
+            return (w << 6) + Long.numberOfTrailingZeros(word);
+        }
+        w++;
+        if (w >= words.length) {
+            return -1;
+        }
+        int s = w >>> 6;
+        long sum = summary[s] & (-1L << w);
+        while (sum == 0) {
+            s++;
+            if (s >= summary.length) {
+                return -1;
+            }
+            sum = summary[s];
+        }
+        w = (s << 6) + Long.numberOfTrailingZeros(sum);
+        return (w << 6) + Long.numberOfTrailingZeros(words[w]);
+    }
+
+    @Override
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * get the number of elements in the queue
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * adds an element to the bucket of its key -- O(1)
+     *
+     * @param e element to insert in the queue
+     * @return true if the element is added, false if it's null, already in the queue or its key is out of range
+     */
+    @Override
+    public boolean push(E e) {
+        if (e == null || this.contains(e)) {
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+            return false;
+        }
+        int k = key.applyAsInt(e);
+        if (k < 0 || k >= buckets.length) {
+            Diagnostics.report(Diagnostic.KEY_OUT_OF_RANGE);
+            return false;
+        }
+        ArrayList<E> bucket = buckets[k];
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets[k] = bucket;
+        }
+        if (bucket.isEmpty()) {
+            setBucket(k);
+        }
+        positions.put(e, bucket.size());
+        bucket.add(e);
+        if (minimum == -1 || k < minimum) {
+            minimum = k;
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(E e) {
+        return positions.containsKey(e);
+    }
+
+    @Override
+    public E top() {
+        if (empty()) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+            return null;
+        }
+        ArrayList<E> bucket = buckets[minimum];
+        return bucket.get(bucket.size() - 1);
+    }
+
+    @Override
+    public void pop() {
+        if (empty()) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+            return;
+        }
+        ArrayList<E> bucket = buckets[minimum];
+        positions.remove(bucket.remove(bucket.size() - 1));
+        size--;
+        if (bucket.isEmpty()) {
+            clearBucket(minimum);
+            minimum = nextBucket(minimum);
+        }
+    }
+
+    /**
+     * removes an element from its bucket, the last element of the bucket takes its place -- O(1)
+     *
+     * @param e element to remove
+     * @return true if the element is removed from the queue false otherwise
+     */
+    @Override
+    public boolean remove(E e) {
+        if (e == null || !this.contains(e)) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        int k = key.applyAsInt(e);
+        ArrayList<E> bucket = buckets[k];
+        int i = positions.remove(e);
+        E last = bucket.remove(bucket.size() - 1);
+        if (i < bucket.size()) {
+            bucket.set(i, last);
+            positions.put(last, i);
+        }
+        size--;
+        if (bucket.isEmpty()) {
+            clearBucket(k);
+            if (k == minimum) {
+                minimum = nextBucket(k);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * get a string representation of the queue
+     *
+     * @return the elements of the queue in order of bucket
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (int k = minimum; k != -1; k = nextBucket(k + 1)) {
+            for (E e : buckets[k]) {
+                s.append(e).append(" ");
+            }
+        }
+        return s.toString();
+    }
+}
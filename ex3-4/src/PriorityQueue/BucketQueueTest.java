@@ -0,0 +1,77 @@
+package PriorityQueue;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * BucketQueueTest is a class that test the methods of BucketQueue
+ */
+public class BucketQueueTest {
+    private BucketQueue<Integer> queue;
+
+    /**
+     * test push, top and pop with keys out of range
+     */
+    @Test
+    public void testPushPop() {
+        queue = new BucketQueue<>(e -> e, 100);
+        assertTrue(queue.empty());
+        queue.push(50);
+        queue.push(7);
+        queue.push(99);
+        assertFalse(queue.push(101));
+        assertFalse(queue.push(-1));
+        assertFalse(queue.push(7));
+        assertEquals(3, queue.size());
+        assertEquals("7 50 99 ", queue.toString());
+        queue.pop();
+        assertEquals(50, queue.top().intValue());
+        queue.push(3);
+        assertEquals(3, queue.top().intValue());
+    }
+
+    /**
+     * test remove of elements that share a bucket
+     */
+    @Test
+    public void testRemoveSameBucket() {
+        queue = new BucketQueue<>(e -> e / 10, 10);
+        queue.push(11);
+        queue.push(12);
+        queue.push(13);
+        queue.push(45);
+        assertTrue(queue.remove(11));
+        assertFalse(queue.contains(11));
+        assertTrue(queue.contains(13));
+        assertTrue(queue.remove(13));
+        assertTrue(queue.remove(12));
+        assertEquals(45, queue.top().intValue());
+        assertFalse(queue.remove(12));
+    }
+
+    /**
+     * test that random operations over many bitmap words give the keys in order
+     */
+    @Test
+    public void testRandomOrder() {
+        Random random = new Random(13);
+        queue = new BucketQueue<>(e -> e, 100000);
+        for (int i = 0; i < 3000; i++) {
+            queue.push(random.nextInt(100001));
+        }
+        for (int i = 0; i < 1000; i++) {
+            queue.remove(random.nextInt(100001));
+        }
+        int last = -1;
+        while (!queue.empty()) {
+            assertTrue(queue.top() > last);
+            last = queue.top();
+            queue.pop();
+        }
+    }
+}
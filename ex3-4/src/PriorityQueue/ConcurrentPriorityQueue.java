@@ -0,0 +1,205 @@
+package PriorityQueue;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
+
+/**
+ * ConcurrentPriorityQueue is a thread-safe queue that orders its elements according to a comparator.
+ * The elements are kept in a lock-free skip list, with a sequence number to break the ties between elements with the
+ * same priority, and every element is mapped to its node in a concurrent hash map. A node is removed from the queue
+ * by the thread that claims it first, so an element is returned by at most one {@link #poll()}.
+ * top and pop are two separate operations, so with many consumers the element removed by pop can be different from
+ * the one returned by top: concurrent consumers should use poll
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class ConcurrentPriorityQueue<E> implements AbstractQueue<E> {
+
+    /**
+     * Node is an element of the queue with its sequence number
+     *
+     * @param <E> the type of the element
+     */
+    private static final class Node<E> {
+        private final E element;
+        private final long sequence;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+        private Node(E element, long sequence) {
+            this.element = element;
+            this.sequence = sequence;
+        }
+
+        /**
+         * claims the node for the calling thread
+         *
+         * @return true if no other thread claimed the node before
+         */
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    private final ConcurrentSkipListSet<Node<E>> skipList;
+    private final ConcurrentHashMap<E, Node<E>> nodes;
+    private final AtomicLong sequence;
+    private final AtomicInteger size;
+
+    /**
+     * constructor of the class
+     *
+     * @param comparator the comparator that will be used to order this priority queue
+     */
+    public ConcurrentPriorityQueue(Comparator<E> comparator) {
+        Comparator<Node<E>> order = (a, b) -> {
+            int c = comparator.compare(a.element, b.element);
+            return c != 0 ? c : Long.compare(a.sequence, b.sequence);
+        };
+        this.skipList = new ConcurrentSkipListSet<>(order);
+        this.nodes = new ConcurrentHashMap<>();
+        this.sequence = new AtomicLong();
+        this.size = new AtomicInteger();
+    }
+
+    @Override
+    public boolean empty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * get the number of elements in the queue, it can be already changed by other threads when it's returned
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * adds an element to the queue -- O(logN)
+     *
+     * @param e element to insert in the queue
+     * @return true if the element is added, false if the element is null or if it's already in the queue
+     */
+    @Override
+    public boolean push(E e) {
+        if (e == null) {
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+            return false;
+        }
+        Node<E> node = new Node<>(e, sequence.getAndIncrement());
+        if (nodes.putIfAbsent(e, node) != null) {
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+            return false;
+        }
+        size.incrementAndGet();
+        skipList.add(node);
+        if (node.claimed.get()) {
+            skipList.remove(node);//removed by another thread before it was in the skip list
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(E e) {
+        return e != null && nodes.containsKey(e);
+    }
+
+    @Override
+    public E top() {
+        while (true) {
+            Node<E> first = firstOrNull();
+            if (first == null) {
+                Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+                return null;
+            }
+            if (!first.claimed.get()) {
+                return first.element;
+            }
+            skipList.remove(first);
+        }
+    }
+
+    /**
+     * removes the element with the highest priority
+     */
+    @Override
+    public void pop() {
+        if (poll() == null) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+        }
+    }
+
+    /**
+     * removes and returns the element with the highest priority in a single atomic step -- O(logN)
+     *
+     * @return the element with the highest priority, null if the queue is empty
+     */
+    public E poll() {
+        Node<E> node;
+        while ((node = skipList.pollFirst()) != null) {
+            if (node.claim()) {
+                nodes.remove(node.element, node);
+                size.decrementAndGet();
+                return node.element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * removes an element from the queue -- O(logN)
+     *
+     * @param e element to remove
+     * @return true if the element is removed from the queue false otherwise
+     */
+    @Override
+    public boolean remove(E e) {
+        Node<E> node = e == null ? null : nodes.get(e);
+        if (node == null || !node.claim()) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        nodes.remove(e, node);
+        size.decrementAndGet();
+        skipList.remove(node);
+        return true;
+    }
+
+    /**
+     * gets the first node of the skip list
+     *
+     * @return the first node, null if the skip list became empty
+     */
+    private Node<E> firstOrNull() {
+        try {
+            return skipList.first();
+        } catch (NoSuchElementException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * get a string representation of the queue
+     *
+     * @return the elements of the queue in order of priority
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (Node<E> node : skipList) {
+            if (!node.claimed.get()) {
+                s.append(node.element).append(" ");
+            }
+        }
+        return s.toString();
+    }
+}
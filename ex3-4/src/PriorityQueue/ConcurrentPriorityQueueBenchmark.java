@@ -0,0 +1,141 @@
+package PriorityQueue;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ConcurrentPriorityQueueBenchmark measures the throughput of ConcurrentPriorityQueue against a PriorityQueue
+ * guarded by a lock, from 1 thread up to the given number of threads. Every thread pushes and polls new elements in
+ * turn, after the queue has been filled with an initial set of elements.
+ * <p>
+ * Usage: java PriorityQueue.ConcurrentPriorityQueueBenchmark [maxThreads] [operationsPerThread]
+ */
+public class ConcurrentPriorityQueueBenchmark {
+
+    private static final int INITIAL_SIZE = 100_000;
+
+    /**
+     * Key is a boxed priority, so that every element is a distinct object
+     */
+    private static final class Key {
+        private final double value;
+
+        private Key(double value) {
+            this.value = value;
+        }
+    }
+
+    private static final Comparator<Key> COMPARATOR = (a, b) -> Double.compare(a.value, b.value);
+
+    /**
+     * SynchronizedQueue is a PriorityQueue where every operation holds the lock of the queue
+     */
+    private static final class SynchronizedQueue {
+        private final PriorityQueue<Key> queue = new PriorityQueue<>(COMPARATOR);
+
+        private synchronized boolean push(Key e) {
+            return queue.push(e);
+        }
+
+        private synchronized Key poll() {
+            if (queue.empty()) {
+                return null;
+            }
+            Key top = queue.top();
+            queue.pop();
+            return top;
+        }
+    }
+
+    /**
+     * Operations is the pair of operations measured for one implementation
+     */
+    private interface Operations {
+        boolean push(Key e);
+
+        Key poll();
+    }
+
+    /**
+     * runs operationsPerThread pushes and polls on each of the threads
+     *
+     * @param queue               the queue to measure
+     * @param threads             the number of threads
+     * @param operationsPerThread the number of push and poll pairs of each thread
+     * @return the number of operations per second
+     * @throws InterruptedException if the main thread is interrupted
+     */
+    private static double run(Operations queue, int threads, int operationsPerThread) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            queue.push(new Key(random.nextDouble()));
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong polled = new AtomicLong();
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom local = random.split();
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long count = 0;
+                for (int i = 0; i < operationsPerThread; i++) {
+                    queue.push(new Key(local.nextDouble()));
+                    if (queue.poll() != null) {
+                        count++;
+                    }
+                }
+                polled.addAndGet(count);
+                done.countDown();
+            });
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long time = System.nanoTime() - begin;
+        if (polled.get() != (long) threads * operationsPerThread) {
+            System.err.println("Some polls found the queue empty");
+        }
+        return 2.0 * threads * operationsPerThread / (time / 1e9);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        System.out.println("Throughput in operations per second, " + operations + " push and poll pairs per thread");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double best = 0;
+            double bestLocked = 0;
+            for (int round = 0; round < 3; round++) {
+                ConcurrentPriorityQueue<Key> concurrent = new ConcurrentPriorityQueue<>(COMPARATOR);
+                best = Math.max(best, run(new Operations() {
+                    public boolean push(Key e) {
+                        return concurrent.push(e);
+                    }
+
+                    public Key poll() {
+                        return concurrent.poll();
+                    }
+                }, threads, operations));
+                SynchronizedQueue locked = new SynchronizedQueue();
+                bestLocked = Math.max(bestLocked, run(new Operations() {
+                    public boolean push(Key e) {
+                        return locked.push(e);
+                    }
+
+                    public Key poll() {
+                        return locked.poll();
+                    }
+                }, threads, operations));
+            }
+            System.out.printf("%2d threads: concurrent %12.0f  synchronized %12.0f%n", threads, best, bestLocked);
+        }
+    }
+}
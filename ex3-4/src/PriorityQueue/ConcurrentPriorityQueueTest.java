@@ -0,0 +1,87 @@
+package PriorityQueue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * ConcurrentPriorityQueueTest is a class that test the methods of ConcurrentPriorityQueue
+ */
+public class ConcurrentPriorityQueueTest {
+    private ConcurrentPriorityQueue<Integer> queue;
+
+    /**
+     * test the methods of AbstractQueue on a single thread
+     */
+    @Test
+    public void testSingleThread() {
+        queue = new ConcurrentPriorityQueue<>(new PriorityQueueTest.ComparInt());
+        assertTrue(queue.empty());
+        queue.push(5);
+        queue.push(2);
+        queue.push(8);
+        assertFalse(queue.push(2));
+        assertEquals("2 5 8 ", queue.toString());
+        assertEquals(2, queue.top().intValue());
+        assertTrue(queue.remove(2));
+        assertFalse(queue.remove(2));
+        assertEquals(5, queue.top().intValue());
+        queue.pop();
+        assertEquals(8, queue.poll().intValue());
+        assertNull(queue.poll());
+        assertTrue(queue.empty());
+    }
+
+    /**
+     * test that with many producers and consumers every element is polled exactly once
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testProducersConsumers() throws InterruptedException {
+        queue = new ConcurrentPriorityQueue<>(new PriorityQueueTest.ComparInt());
+        int threads = 4;
+        int perThread = 5000;
+        Set<Integer> polled = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2 * threads);
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    queue.push(base + i);
+                }
+            });
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    Integer e = queue.poll();
+                    if (e != null && !polled.add(e)) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(0, duplicates.get());
+        Set<Integer> left = new HashSet<>();
+        Integer e;
+        while ((e = queue.poll()) != null) {
+            left.add(e);
+        }
+        assertEquals(threads * perThread, polled.size() + left.size());
+        left.retainAll(polled);
+        assertTrue(left.isEmpty());
+    }
+}
@@ -0,0 +1,331 @@
+package PriorityQueue;
+
+import java.util.function.IntToDoubleFunction;
+
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
+
+/**
+ * IntDoubleHeap is a binary min heap of int ids ordered by a double key.
+ * Ids and keys are stored in two parallel arrays and every id is mapped to its slot, so the primitive methods never
+ * box or allocate. Ids must be in the range [0, capacity)
+ */
+public class IntDoubleHeap implements AbstractQueue<Integer> {
+
+    private final IntToDoubleFunction priority;
+    private final int[] heap;
+    private final double[] keys;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * constructor of the class, the ids pushed with {@link #push(Integer)} are ordered by their own value
+     *
+     * @param capacity the number of distinct ids that the heap can hold
+     */
+    public IntDoubleHeap(int capacity) {
+        this(capacity, id -> id);
+    }
+
+    /**
+     * constructor of the class
+     *
+     * @param capacity the number of distinct ids that the heap can hold
+     * @param priority the key given to the ids pushed with {@link #push(Integer)}
+     */
+    public IntDoubleHeap(int capacity, IntToDoubleFunction priority) {
+        this.priority = priority;
+        this.size = 0;
+        this.heap = new int[capacity + 1];//index 0 is not used
+        this.keys = new double[capacity + 1];
+        this.positions = new int[capacity];//0 means that the id is not in the heap
+    }
+
+    /**
+     * moves the element at index i up the heap until its parent has a smaller key
+     *
+     * @param i index of node
+     */
+    private void fixHeap(int i) {
+        int id = heap[i];
+        double key = keys[i];
+        while (i > 1 && key < keys[i / 2]) {
+            place(i, heap[i / 2], keys[i / 2]);
+            i = i / 2;
+        }
+        place(i, id, key);
+    }
+
+    /**
+     * moves the element at index i down the heap until its children have a bigger key
+     *
+     * @param i index of node
+     */
+    private void minHeapify(int i) {
+        int id = heap[i];
+        double key = keys[i];
+        int child;
+        while ((child = 2 * i) <= size) {
+            if (child < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (keys[child] >= key) {
+                break;
+            }
+            place(i, heap[child], keys[child]);
+            i = child;
+        }
+        place(i, id, key);
+    }
+
+    /**
+     * puts an id and its key in a slot of the heap and records its position
+     *
+     * @param i   the index of the slot
+     * @param id  the id to put in the slot
+     * @param key the key of the id
+     */
+    private void place(int i, int id, double key) {
+        heap[i] = id;
+        keys[i] = key;
+        positions[id] = i;
+    }
+
+    /**
+     * checks if an id can be stored in the heap
+     *
+     * @param id the id to check
+     * @return true if the id is in the range [0, capacity)
+     */
+    private boolean inRange(int id) {
+        return id >= 0 && id < positions.length;
+    }
+
+    @Override
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * get the number of ids in the heap
+     *
+     * @return the number of ids in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * adds an id to the heap with the given key
+     *
+     * @param id  the id to insert
+     * @param key the key of the id
+     * @return true if the id is added, false if it's out of range or already in the heap
+     */
+    public boolean push(int id, double key) {
+        if (!inRange(id) || positions[id] != 0) {
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+            return false;
+        }
+        size++;
+        place(size, id, key);
+        fixHeap(size);
+        return true;
+    }
+
+    /**
+     * adds an id to the heap using the key given by the priority function of the constructor
+     *
+     * @param e the id to insert
+     * @return true if the id is added, false otherwise
+     */
+    @Override
+    public boolean push(Integer e) {
+        if (e == null) {
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+            return false;
+        }
+        return push(e.intValue(), priority.applyAsDouble(e));
+    }
+
+    /**
+     * checks if an id is in the heap -- O(1)
+     *
+     * @param id the id to find
+     * @return true if the id is in the heap, false otherwise
+     */
+    public boolean contains(int id) {
+        return inRange(id) && positions[id] != 0;
+    }
+
+    @Override
+    public boolean contains(Integer e) {
+        return e != null && contains(e.intValue());
+    }
+
+    /**
+     * gets the id with the smallest key without boxing it
+     *
+     * @return the id with the smallest key, -1 if the heap is empty
+     */
+    public int topId() {
+        if (empty()) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+            return -1;
+        }
+        return heap[1];
+    }
+
+    /**
+     * gets the smallest key in the heap
+     *
+     * @return the key of the id returned by {@link #topId()}, NaN if the heap is empty
+     */
+    public double topKey() {
+        if (empty()) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+            return Double.NaN;
+        }
+        return keys[1];
+    }
+
+    @Override
+    public Integer top() {
+        if (empty()) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+            return null;
+        }
+        return heap[1];
+    }
+
+    @Override
+    public void pop() {
+        if (empty()) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+            return;
+        }
+        positions[heap[1]] = 0;
+        if (size > 1) {
+            place(1, heap[size], keys[size]);
+        }
+        size--;
+        if (size > 0) {
+            minHeapify(1);
+        }
+    }
+
+    /**
+     * removes an id from the heap -- O(logN)
+     *
+     * @param id the id to remove
+     * @return true if the id is removed, false if it's not in the heap
+     */
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        int i = positions[id];
+        positions[id] = 0;
+        if (i < size) {
+            double removedKey = keys[i];
+            place(i, heap[size], keys[size]);
+            size--;
+            if (keys[i] < removedKey) {
+                fixHeap(i);
+            } else {
+                minHeapify(i);
+            }
+        } else {
+            size--;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Integer e) {
+        if (e == null) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        return remove(e.intValue());
+    }
+
+    /**
+     * gets the key of an id in the heap
+     *
+     * @param id the id
+     * @return the key of the id, NaN if the id is not in the heap
+     */
+    public double key(int id) {
+        return contains(id) ? keys[positions[id]] : Double.NaN;
+    }
+
+    /**
+     * gives a smaller key to an id in the heap -- O(logN)
+     *
+     * @param id  the id
+     * @param key the new key, it must not be bigger than the current one
+     * @return true if the key is changed, false otherwise
+     */
+    public boolean decreaseKey(int id, double key) {
+        if (!contains(id)) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        int i = positions[id];
+        if (key > keys[i]) {
+            Diagnostics.report(Diagnostic.LOWER_PRIORITY);
+            return false;
+        }
+        keys[i] = key;
+        fixHeap(i);
+        return true;
+    }
+
+    /**
+     * gives a bigger key to an id in the heap -- O(logN)
+     *
+     * @param id  the id
+     * @param key the new key, it must not be smaller than the current one
+     * @return true if the key is changed, false otherwise
+     */
+    public boolean increaseKey(int id, double key) {
+        if (!contains(id)) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        int i = positions[id];
+        if (key < keys[i]) {
+            Diagnostics.report(Diagnostic.HIGHER_PRIORITY);
+            return false;
+        }
+        keys[i] = key;
+        minHeapify(i);
+        return true;
+    }
+
+    /**
+     * removes every id from the heap, keeping the arrays for the next use
+     */
+    public void clear() {
+        for (int i = 1; i <= size; i++) {
+            positions[heap[i]] = 0;
+        }
+        size = 0;
+    }
+
+    /**
+     * get a string representation of the heap
+     *
+     * @return the ids in the order of the heap array
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (int i = 1; i <= size; i++) {
+            s.append(heap[i]).append(" ");
+        }
+        return s.toString();
+    }
+}
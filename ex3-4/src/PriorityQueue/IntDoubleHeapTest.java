@@ -0,0 +1,89 @@
+package PriorityQueue;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * IntDoubleHeapTest is a class that test the methods of IntDoubleHeap
+ */
+public class IntDoubleHeapTest {
+    private IntDoubleHeap queue;
+
+    /**
+     * test push and top with explicit keys
+     */
+    @Test
+    public void testPushTop() {
+        queue = new IntDoubleHeap(10);
+        assertTrue(queue.empty());
+        assertTrue(queue.push(3, 5.0));
+        assertTrue(queue.push(7, 2.5));
+        assertTrue(queue.push(1, 8.0));
+        assertFalse(queue.push(7, 1.0));
+        assertFalse(queue.push(10, 1.0));
+        assertEquals(3, queue.size());
+        assertEquals(7, queue.topId());
+        assertEquals(2.5, queue.topKey(), 0);
+    }
+
+    /**
+     * test the methods of AbstractQueue, the ids are ordered by their value
+     */
+    @Test
+    public void testAbstractQueue() {
+        AbstractQueue<Integer> q = new IntDoubleHeap(10);
+        q.push(5);
+        q.push(2);
+        q.push(8);
+        assertTrue(q.contains(2));
+        assertEquals(2, q.top().intValue());
+        assertTrue(q.remove(2));
+        assertFalse(q.contains(2));
+        assertEquals(5, q.top().intValue());
+        q.pop();
+        assertEquals(8, q.top().intValue());
+    }
+
+    /**
+     * test decreaseKey and increaseKey
+     */
+    @Test
+    public void testChangeKey() {
+        queue = new IntDoubleHeap(10);
+        queue.push(0, 1.0);
+        queue.push(1, 2.0);
+        queue.push(2, 3.0);
+        assertTrue(queue.decreaseKey(2, 0.5));
+        assertEquals(2, queue.topId());
+        assertFalse(queue.decreaseKey(2, 4.0));
+        assertTrue(queue.increaseKey(2, 4.0));
+        assertEquals(0, queue.topId());
+        assertEquals(4.0, queue.key(2), 0);
+    }
+
+    /**
+     * test that random pushes, removes and pops come out in order of key
+     */
+    @Test
+    public void testRandomOrder() {
+        Random random = new Random(42);
+        queue = new IntDoubleHeap(1000);
+        for (int i = 0; i < 1000; i++) {
+            queue.push(i, random.nextDouble());
+        }
+        for (int i = 0; i < 1000; i += 3) {
+            assertTrue(queue.remove(i));
+        }
+        double last = -1;
+        while (!queue.empty()) {
+            assertTrue(queue.topKey() >= last);
+            last = queue.topKey();
+            queue.pop();
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package PriorityQueue;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
+
+/**
+ * PairingHeap is a queue that orders its elements according to a comparator using a pairing heap.
+ * push, decreaseKey and meld link two trees in O(1), pop and remove merge the children of the removed node in pairs
+ * with an amortized cost of O(logN). Every element is mapped to its node, so contains is O(1)
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class PairingHeap<E> implements AbstractQueue<E> {
+
+    /**
+     * Node is a node of the heap, prev is the left sibling or the parent for the leftmost child
+     *
+     * @param <E> the type of the element
+     */
+    private static final class Node<E> {
+        private E element;
+        private Node<E> child;
+        private Node<E> next;
+        private Node<E> prev;
+
+        private Node(E element) {
+            this.element = element;
+        }
+    }
+
+    private final Comparator<E> compar;
+    private Map<E, Node<E>> nodes;
+    private Node<E> root;
+    private int size;
+
+    /**
+     * constructor of the class
+     *
+     * @param comparator the comparator that will be used to order this priority queue
+     */
+    public PairingHeap(Comparator<E> comparator) {
+        this.compar = comparator;
+        this.nodes = new HashMap<>();
+        this.root = null;
+        this.size = 0;
+    }
+
+    /**
+     * links two trees, the root with the lower priority becomes the leftmost child of the other one
+     *
+     * @param a the root of the first tree
+     * @param b the root of the second tree
+     * @return the root of the linked tree
+     */
+    private Node<E> link(Node<E> a, Node<E> b) {
+        if (compar.compare(b.element, a.element) < 0) {
+            Node<E> temp = a;
+            a = b;
+            b = temp;
+        }
+        b.next = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        b.prev = a;
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * cuts the tree of a node from its parent and its siblings
+     *
+     * @param node the node to cut, it must not be the root
+     */
+    private void detach(Node<E> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * merges a list of siblings in a single tree with the two pass method: the siblings are linked in pairs from left
+     * to right, then the pairs are linked from right to left
+     *
+     * @param first the leftmost sibling
+     * @return the root of the merged tree, null if there are no siblings
+     */
+    private Node<E> mergePairs(Node<E> first) {
+        Node<E> pairs = null;
+        Node<E> current = first;
+        while (current != null) {
+            Node<E> a = current;
+            Node<E> b = a.next;
+            Node<E> merged;
+            if (b == null) {
+                current = null;
+                a.prev = null;
+                merged = a;
+            } else {
+                current = b.next;
+                a.prev = a.next = null;
+                b.prev = b.next = null;
+                merged = link(a, b);
+            }
+            merged.next = pairs;//the pairs are kept in a stack linked by next
+            pairs = merged;
+        }
+        if (pairs == null) {
+            return null;
+        }
+        Node<E> result = pairs;
+        pairs = pairs.next;
+        result.next = null;
+        while (pairs != null) {
+            Node<E> n = pairs;
+            pairs = pairs.next;
+            n.next = null;
+            result = link(result, n);
+        }
+        return result;
+    }
+
+    /**
+     * checks if the priority queue is empty
+     *
+     * @return true if size is zero, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * get the number of elements in the queue
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * adds an element to the priority queue -- O(1)
+     *
+     * @param e element to insert in the queue
+     * @return true if the element is added, false if the element is null or if it's already in the heap
+     */
+    @Override
+    public boolean push(E e) {
+        if (e == null || this.contains(e)) {
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+            return false;
+        }
+        Node<E> node = new Node<>(e);
+        nodes.put(e, node);
+        root = root == null ? node : link(root, node);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(E e) {
+        return nodes.containsKey(e);
+    }
+
+    @Override
+    public E top() {
+        if (empty()) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+            return null;
+        }
+        return root.element;
+    }
+
+    /**
+     * removes the element with the highest priority -- O(logN) amortized
+     */
+    @Override
+    public void pop() {
+        if (empty()) {
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
+            return;
+        }
+        nodes.remove(root.element);
+        root = mergePairs(root.child);
+        size--;
+    }
+
+    /**
+     * removes an element from the heap -- O(logN) amortized
+     *
+     * @param e element to remove
+     * @return true if the element is removed from the heap false otherwise
+     */
+    @Override
+    public boolean remove(E e) {
+        if (e == null || !this.contains(e)) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        Node<E> node = nodes.get(e);
+        if (node == root) {
+            pop();
+            return true;
+        }
+        nodes.remove(e);
+        detach(node);
+        Node<E> children = mergePairs(node.child);
+        if (children != null) {
+            root = link(root, children);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * replaces an element with another one that has an higher or equal priority -- O(1)
+     *
+     * @param a the element to be replaced
+     * @param b the element to replace a, it must not come after a according to the comparator
+     * @return true if a is replaced, false otherwise
+     */
+    public boolean decreaseKey(E a, E b) {
+        if (!canReplace(a, b)) {
+            return false;
+        }
+        if (compar.compare(b, a) > 0) {
+            Diagnostics.report(Diagnostic.LOWER_PRIORITY);
+            return false;
+        }
+        Node<E> node = replace(a, b);
+        if (node != root) {
+            detach(node);
+            root = link(root, node);
+        }
+        return true;
+    }
+
+    /**
+     * replaces an element with another one that has a lower or equal priority -- O(logN) amortized
+     *
+     * @param a the element to be replaced
+     * @param b the element to replace a, it must not come before a according to the comparator
+     * @return true if a is replaced, false otherwise
+     */
+    public boolean increaseKey(E a, E b) {
+        if (!canReplace(a, b)) {
+            return false;
+        }
+        if (compar.compare(b, a) < 0) {
+            Diagnostics.report(Diagnostic.HIGHER_PRIORITY);
+            return false;
+        }
+        Node<E> node = replace(a, b);
+        Node<E> rest;
+        if (node == root) {
+            rest = null;
+        } else {
+            detach(node);
+            rest = root;
+        }
+        Node<E> children = mergePairs(node.child);
+        node.child = null;
+        if (children != null) {
+            rest = rest == null ? children : link(rest, children);
+        }
+        root = rest == null ? node : link(rest, node);
+        return true;
+    }
+
+    /**
+     * replace an element in the queue with another element
+     *
+     * @param a the element to be replaced
+     * @param b the element to replace a
+     */
+    public void substitutionPriority(E a, E b) {
+        if (!canReplace(a, b)) {
+            return;
+        }
+        if (compar.compare(b, a) <= 0) {
+            decreaseKey(a, b);
+        } else {
+            increaseKey(a, b);
+        }
+    }
+
+    /**
+     * moves all the elements of another heap in this heap, the other heap is left empty. The trees are linked in O(1)
+     * and the smaller index of the elements is moved in the bigger one, so an element is moved at most O(logN)
+     * times over any sequence of melds
+     *
+     * @param other the heap to meld, it must use the same order of this heap
+     * @return true if the heaps are melded, false if the other heap is null, this heap or they share an element
+     */
+    public boolean meld(PairingHeap<E> other) {
+        if (other == null || other == this) {
+            return false;
+        }
+        if (other.empty()) {
+            return true;
+        }
+        Map<E, Node<E>> small = nodes.size() < other.nodes.size() ? nodes : other.nodes;
+        Map<E, Node<E>> big = small == nodes ? other.nodes : nodes;
+        for (E e : small.keySet()) {
+            if (big.containsKey(e)) {
+                Diagnostics.report(Diagnostic.HEAPS_SHARE_ELEMENT);
+                return false;
+            }
+        }
+        big.putAll(small);
+        nodes = big;
+        root = root == null ? other.root : link(root, other.root);
+        size += other.size;
+        other.nodes = new HashMap<>();
+        other.root = null;
+        other.size = 0;
+        return true;
+    }
+
+    /**
+     * checks if an element of the queue can be replaced by another one
+     *
+     * @param a the element to be replaced
+     * @param b the element to replace a
+     * @return true if a is in the queue and b is not null and not already in the queue (unless it's a itself)
+     */
+    private boolean canReplace(E a, E b) {
+        if (a == null || !contains(a)) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        if (b == null || (contains(b) && !a.equals(b))) {
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * puts an element in the node of another one
+     *
+     * @param a the element to be replaced
+     * @param b the element to replace a
+     * @return the node of the element
+     */
+    private Node<E> replace(E a, E b) {
+        Node<E> node = nodes.remove(a);
+        node.element = b;
+        nodes.put(b, node);
+        return node;
+    }
+
+    /**
+     * get a string representation of the heap
+     *
+     * @return the elements of the heap in preorder
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        Deque<Node<E>> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            Node<E> node = stack.pop();
+            s.append(node.element).append(" ");
+            if (node.next != null) {
+                stack.push(node.next);
+            }
+            if (node.child != null) {
+                stack.push(node.child);
+            }
+        }
+        return s.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package PriorityQueue;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * PairingHeapTest is a class that test the methods of PairingHeap
+ */
+public class PairingHeapTest {
+    private PairingHeap<Integer> queue;
+
+    /**
+     * test push, top and pop
+     */
+    @Test
+    public void testPushPop() {
+        queue = new PairingHeap<>(new PriorityQueueTest.ComparInt());
+        assertTrue(queue.empty());
+        queue.push(5);
+        queue.push(2);
+        queue.push(8);
+        queue.push(1);
+        assertFalse(queue.push(8));
+        assertFalse(queue.push(null));
+        assertEquals(4, queue.size());
+        assertEquals(1, queue.top().intValue());
+        queue.pop();
+        assertEquals(2, queue.top().intValue());
+        assertFalse(queue.contains(1));
+        assertTrue(queue.contains(8));
+    }
+
+    /**
+     * test decreaseKey, increaseKey and substitutionPriority
+     */
+    @Test
+    public void testChangeKey() {
+        queue = new PairingHeap<>(new PriorityQueueTest.ComparInt());
+        queue.push(5);
+        queue.push(2);
+        queue.push(8);
+        queue.push(10);
+        assertTrue(queue.decreaseKey(10, 1));
+        assertEquals(1, queue.top().intValue());
+        assertFalse(queue.contains(10));
+        assertFalse(queue.decreaseKey(8, 9));
+        assertTrue(queue.increaseKey(1, 12));
+        assertEquals(2, queue.top().intValue());
+        queue.substitutionPriority(12, 0);
+        assertEquals(0, queue.top().intValue());
+        queue.substitutionPriority(0, 20);
+        assertEquals(2, queue.top().intValue());
+    }
+
+    /**
+     * test meld of two heaps
+     */
+    @Test
+    public void testMeld() {
+        queue = new PairingHeap<>(new PriorityQueueTest.ComparInt());
+        PairingHeap<Integer> other = new PairingHeap<>(new PriorityQueueTest.ComparInt());
+        queue.push(4);
+        queue.push(6);
+        other.push(3);
+        other.push(9);
+        assertTrue(queue.meld(other));
+        assertTrue(other.empty());
+        assertFalse(other.contains(3));
+        assertEquals(4, queue.size());
+        assertTrue(queue.contains(9));
+        assertEquals(3, queue.top().intValue());
+        other.push(4);
+        assertFalse(queue.meld(other));
+    }
+
+    /**
+     * test that random operations give the same order of PriorityQueue
+     */
+    @Test
+    public void testSameOrderOfPriorityQueue() {
+        Random random = new Random(11);
+        queue = new PairingHeap<>(new PriorityQueueTest.ComparInt());
+        PriorityQueue<Integer> expected = new PriorityQueue<>(new PriorityQueueTest.ComparInt());
+        for (int i = 0; i < 2000; i++) {
+            int e = random.nextInt(5000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.remove(e), queue.remove(e));
+                    break;
+                case 1:
+                    if (!expected.empty()) {
+                        assertEquals(expected.top(), queue.top());
+                        expected.pop();
+                        queue.pop();
+                    }
+                    break;
+                default:
+                    assertEquals(expected.push(e), queue.push(e));
+            }
+            if (expected.contains(e) && !expected.contains(e / 2)) {
+                expected.substitutionPriority(e, e / 2);
+                queue.substitutionPriority(e, e / 2);
+            }
+        }
+        while (!expected.empty()) {
+            assertEquals(expected.top(), queue.top());
+            expected.pop();
+            queue.pop();
+        }
+        assertTrue(queue.empty());
+    }
+}
@@ -1,53 +1,90 @@
 package PriorityQueue;
 
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.ArrayList;
+import java.util.Collection;
+
+import Diagnostics.Diagnostic;
+import Diagnostics.Diagnostics;
 
 /**
- * PriorityQueue.PriorityQueue is a queue that orders its elements according to a comparator
+ * PriorityQueue.PriorityQueue is a queue that orders its elements according to a comparator.
+ * The heap is d-ary with 2, 4 or 8 children per node: a wider heap is shallower, so push and decreaseKey move the
+ * element through fewer levels, while pop compares more children at each level.
+ * Every element is mapped to its slot in the heap, so contains is O(1) and remove, decreaseKey, increaseKey and
+ * substitutionPriority are O(logN)
  *
  * @param <E> the type of elements in this queue
  */
 public class PriorityQueue<E> implements AbstractQueue<E> {
 
     private final Comparator<E> compar;
+    private final int arity;
     private final ArrayList<E> heap;
-    private final Set<E> elements;
+    private Map<E, Integer> positions;
     private int size;
 
     /**
-     * constructor of the class
+     * constructor of the class, the heap is binary
      *
      * @param comparator the comparator that will be used to order this priority queue
      */
     public PriorityQueue(Comparator<E> comparator) {
+        this(comparator, 2);
+    }
+
+    /**
+     * constructor of the class
+     *
+     * @param comparator the comparator that will be used to order this priority queue
+     * @param arity      the number of children of each node of the heap, it must be 2, 4 or 8
+     * @throws IllegalArgumentException if the arity is not 2, 4 or 8
+     */
+    public PriorityQueue(Comparator<E> comparator, int arity) {
+        if (arity != 2 && arity != 4 && arity != 8) {
+            throw new IllegalArgumentException("The arity must be 2, 4 or 8");
+        }
         this.compar = comparator;
+        this.arity = arity;
         this.size = 0;
         this.heap = new ArrayList<>();
-        this.elements = new HashSet<>();
+        this.positions = new HashMap<>();
         heap.addFirst(null);//add null to index 0
     }
 
     /**
-     * gets the index of the left child of the element at index i
+     * constructor of the class that builds a binary heap with the given elements in linear time
      *
-     * @param i index of node
-     * @return the index of the left child of the node at index i
+     * @param comparator the comparator that will be used to order this priority queue
+     * @param elements   the elements to insert in the queue
      */
-    private int getLeftChild(int i) {
-        return 2 * i;
+    public PriorityQueue(Comparator<E> comparator, Collection<? extends E> elements) {
+        this(comparator, 2, elements);
     }
 
     /**
-     * gets the index of the right child of the element at index i
+     * constructor of the class that builds a heap with the given elements in linear time
+     *
+     * @param comparator the comparator that will be used to order this priority queue
+     * @param arity      the number of children of each node of the heap, it must be 2, 4 or 8
+     * @param elements   the elements to insert in the queue
+     * @throws IllegalArgumentException if the arity is not 2, 4 or 8
+     */
+    public PriorityQueue(Comparator<E> comparator, int arity, Collection<? extends E> elements) {
+        this(comparator, arity);
+        heapify(elements);
+    }
+
+    /**
+     * gets the index of the first child of the element at index i, the other children follow it
      *
      * @param i index of node
-     * @return the index of the right child of the node at index i
+     * @return the index of the first child of the node at index i
      */
-    private int getRightChild(int i) {
-        return 2 * i + 1;
+    private int getFirstChild(int i) {
+        return arity * (i - 1) + 2;
     }
 
     /**
@@ -57,54 +94,67 @@ public class PriorityQueue<E> implements AbstractQueue<E> {
      * @return the index of the parent of the node at index i
      */
     private int getParent(int i) {
-        return i / 2;
+        return (i - 2) / arity + 1;
     }
 
     /**
-     * Swaps two elements in the heap
+     * puts an element in a slot of the heap and records its position
      *
-     * @param i the index of the first element
-     * @param j the index of the second element
+     * @param i the index of the slot
+     * @param e the element to put in the slot
      */
-    private void swap(int i, int j) {
-        E temp = heap.get(i);
-        heap.set(i, heap.get(j));
-        heap.set(j, temp);
+    private void place(int i, E e) {
+        heap.set(i, e);
+        positions.put(e, i);
     }
 
     /**
-     * fixHeap is used to fix the heap after a push and remove operation
+     * fixHeap is used to fix the heap after a push and remove operation, the parents are moved down into the hole
+     * and the element is placed only once at the end
      *
      * @param i index of node
      */
     private void fixHeap(int i) {
-        while (i != 1 && compar.compare(heap.get(i), heap.get(getParent(i))) < 0) {
-            swap(i, getParent(i));
-            i = getParent(i);
+        E e = heap.get(i);
+        while (i != 1) {
+            int parent = getParent(i);
+            E p = heap.get(parent);
+            if (compar.compare(e, p) >= 0) {
+                break;
+            }
+            place(i, p);
+            i = parent;
         }
+        place(i, e);
     }
 
     /**
-     * minHeapify is used to fix the heap after a pop or remove operation
+     * minHeapify is used to fix the heap after a pop or remove operation, the smallest child is moved up into the
+     * hole until the element is not bigger than any of its children
      *
      * @param i index of node
      */
     private void minHeapify(int i) {
-        int smallest = i;
-        int left = getLeftChild(i);
-        int right = getRightChild(i);
-
-        if (left <= size && compar.compare(heap.get(left), heap.get(smallest)) < 0) {
-            smallest = left;
-        }
-        if (right <= size && compar.compare(heap.get(right), heap.get(smallest)) < 0) {
-            smallest = right;
-        }
-
-        if (smallest != i) {
-            swap(i, smallest);
-            minHeapify(smallest);
+        E e = heap.get(i);
+        int first;
+        while ((first = getFirstChild(i)) <= size) {
+            int last = Math.min(first + arity - 1, size);
+            int smallest = first;
+            E s = heap.get(first);
+            for (int child = first + 1; child <= last; child++) {
+                E c = heap.get(child);
+                if (compar.compare(c, s) < 0) {
+                    smallest = child;
+                    s = c;
+                }
+            }
+            if (compar.compare(s, e) >= 0) {
+                break;
+            }
+            place(i, s);
+            i = smallest;
         }
+        place(i, e);
     }
 
 
@@ -127,17 +177,66 @@ public class PriorityQueue<E> implements AbstractQueue<E> {
     @Override
     public boolean push(E e) {
         if (e == null || this.contains(e)) {
-            System.err.println("The element is null or the element is already in the heap");
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
             return false;
         }
 
         size++;
         heap.add(size, e);
-        elements.add(e);
+        positions.put(e, size);
         fixHeap(size);
         return true;
     }
 
+    /**
+     * adds all the elements of a collection to the priority queue. When the collection is bigger than the queue the
+     * elements are appended and the heap is rebuilt bottom-up in O(N), with the heap and the position index sized
+     * once for the final number of elements, otherwise they are pushed one at a time
+     *
+     * @param c the elements to insert in the queue
+     * @return true if every element is added, false if some of them are null or already in the heap
+     */
+    public boolean pushAll(Collection<? extends E> c) {
+        boolean added = true;
+        if (c.size() <= size) {
+            for (E e : c) {
+                added &= push(e);
+            }
+            return added;
+        }
+        return heapify(c);
+    }
+
+    /**
+     * appends the elements of a collection to the heap and rebuilds it bottom-up in O(N), with the heap and the
+     * position index sized once for the final number of elements
+     *
+     * @param c the elements to insert in the queue
+     * @return true if every element is added, false if some of them are null or already in the heap
+     */
+    private boolean heapify(Collection<? extends E> c) {
+        boolean added = true;
+        heap.ensureCapacity(size + c.size() + 1);
+        Map<E, Integer> index = HashMap.newHashMap(size + c.size());
+        for (int i = 1; i <= size; i++) {
+            index.put(heap.get(i), i);
+        }
+        for (E e : c) {
+            if (e == null || index.putIfAbsent(e, size + 1) != null) {
+                Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+                added = false;
+                continue;
+            }
+            size++;
+            heap.add(e);
+        }
+        positions = index;
+        for (int i = getParent(size); i >= 1; i--) {
+            minHeapify(i);
+        }
+        return added;
+    }
+
     /**
      * checks if the priority queue cointains an element
      *
@@ -146,7 +245,7 @@ public class PriorityQueue<E> implements AbstractQueue<E> {
      */
     @Override
     public boolean contains(E e) {
-        return elements.contains(e);
+        return positions.containsKey(e);
     }
 
     /**
@@ -157,8 +256,7 @@ public class PriorityQueue<E> implements AbstractQueue<E> {
     @Override
     public E top() {
         if (empty()) {
-            System.err.println("Heap is empty");
-            System.err.println("Insert elements first");
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
             return null;
         }
         return heap.get(1);
@@ -179,59 +277,126 @@ public class PriorityQueue<E> implements AbstractQueue<E> {
     @Override
     public void pop() {
         if (empty()) {
-            System.err.println("Heap is empty");
-            System.err.println("Insert elements first");
+            Diagnostics.report(Diagnostic.QUEUE_EMPTY);
         } else {
             E removedElement = heap.get(1);
-            swap(1, size);
-            heap.remove(size);
+            E lastElement = heap.remove(size);
             size--;
-            minHeapify(1);
-            elements.remove(removedElement);
+            positions.remove(removedElement);
+            if (size > 0) {
+                place(1, lastElement);
+                minHeapify(1);
+            }
         }
     }
 
     /**
      * removes an element from the heap if it's present in the heap and if it's not null and fix the heap after the remove with
-     * minHeapify or fixHeap depending on the element that is removed and the element that is in the root of the heap
-     * after the remove operation
+     * minHeapify or fixHeap depending on the element that is moved into its slot. The slot is found through the
+     * position index, so the whole operation costs O(logN)
      *
      * @param e element to remove
      * @return true if the element is removed from the heap false otherwise
      */
     @Override
     public boolean remove(E e) {
-        if (!this.contains(e) || empty() || e == null) {
-            System.err.println("Element not in the heap or the element is null");
+        if (e == null || empty() || !this.contains(e)) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
             return false;
         }
-        int IndexRemove = heap.indexOf(e);
-        E lastElement = heap.get(size);
-        heap.set(IndexRemove, lastElement);
-        heap.remove(size);
-        elements.remove(e);
+        int indexRemove = positions.remove(e);
+        E lastElement = heap.remove(size);
         size--;
-        if (compar.compare(lastElement, e) < 0) {
-            fixHeap(IndexRemove);
-        } else {
-            minHeapify(IndexRemove);
+        if (indexRemove <= size) {
+            place(indexRemove, lastElement);
+            if (compar.compare(lastElement, e) < 0) {
+                fixHeap(indexRemove);
+            } else {
+                minHeapify(indexRemove);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * replaces an element with another one that has an higher or equal priority and moves it up the heap
+     *
+     * @param a the element to be replaced
+     * @param b the element to replace a, it must not come after a according to the comparator
+     * @return true if a is replaced, false otherwise
+     */
+    public boolean decreaseKey(E a, E b) {
+        if (!canReplace(a, b)) {
+            return false;
+        }
+        if (compar.compare(b, a) > 0) {
+            Diagnostics.report(Diagnostic.LOWER_PRIORITY);
+            return false;
+        }
+        int i = positions.remove(a);
+        place(i, b);
+        fixHeap(i);
+        return true;
+    }
+
+    /**
+     * replaces an element with another one that has a lower or equal priority and moves it down the heap
+     *
+     * @param a the element to be replaced
+     * @param b the element to replace a, it must not come before a according to the comparator
+     * @return true if a is replaced, false otherwise
+     */
+    public boolean increaseKey(E a, E b) {
+        if (!canReplace(a, b)) {
+            return false;
+        }
+        if (compar.compare(b, a) < 0) {
+            Diagnostics.report(Diagnostic.HIGHER_PRIORITY);
+            return false;
         }
+        int i = positions.remove(a);
+        place(i, b);
+        minHeapify(i);
         return true;
     }
 
     /**
-     * replace an element in the queue with another element
+     * replace an element in the queue with another element, moving the new element up or down the heap
+     * depending on its priority -- O(logN)
      *
      * @param a the element to be replaced
      * @param b the element to replace a
      */
     public void substitutionPriority(E a, E b) {
-        if (contains(a)) {
-            remove(a);
-            push(b);
+        if (!canReplace(a, b)) {
+            return;
+        }
+        int i = positions.remove(a);
+        place(i, b);
+        if (compar.compare(b, a) < 0) {
+            fixHeap(i);
         } else {
-            System.out.println("Element not in the heap");
+            minHeapify(i);
+        }
+    }
+
+    /**
+     * checks if an element of the queue can be replaced by another one
+     *
+     * @param a the element to be replaced
+     * @param b the element to replace a
+     * @return true if a is in the queue and b is not null and not already in the queue (unless it's a itself)
+     */
+    private boolean canReplace(E a, E b) {
+        if (a == null || !contains(a)) {
+            Diagnostics.report(Diagnostic.ELEMENT_MISSING);
+            return false;
+        }
+        if (b == null || (contains(b) && !a.equals(b))) {
+            Diagnostics.report(Diagnostic.ELEMENT_REJECTED);
+            return false;
         }
+        return true;
     }
 
     /**
@@ -0,0 +1,111 @@
+package PriorityQueue;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * PriorityQueueBenchmark measures the PriorityQueue with arity 2, 4 and 8 on a push-heavy and on a pop-heavy mix of
+ * operations. The push-heavy mix is the one of the lazy Prim, where each pop is followed by the push of many edges,
+ * the pop-heavy mix fills the queue once and then empties it.
+ * <p>
+ * Usage: java PriorityQueue.PriorityQueueBenchmark [size] [rounds], by default 10^6 elements and the best of 3 rounds
+ */
+public class PriorityQueueBenchmark {
+
+    private static final int[] ARITIES = {2, 4, 8};
+    private static final int PUSHES_PER_POP = 4;
+
+    /**
+     * Key is a boxed priority, so every element is a distinct object like the edges pushed by Prim
+     */
+    private static final class Key {
+        private final double value;
+
+        private Key(double value) {
+            this.value = value;
+        }
+    }
+
+    private static final Comparator<Key> COMPARATOR = (a, b) -> Double.compare(a.value, b.value);
+
+    /**
+     * pushes PUSHES_PER_POP elements for every pop until size elements have been pushed, then empties the queue
+     *
+     * @param arity the arity of the heap
+     * @param keys  the elements to push
+     * @return the number of pops, so that the work can't be optimised away
+     */
+    private static long pushHeavy(int arity, Key[] keys) {
+        PriorityQueue<Key> queue = new PriorityQueue<>(COMPARATOR, arity);
+        long pops = 0;
+        for (int i = 0; i < keys.length; i++) {
+            queue.push(keys[i]);
+            if (i % PUSHES_PER_POP == 0) {
+                queue.pop();
+                pops++;
+            }
+        }
+        while (!queue.empty()) {
+            queue.pop();
+            pops++;
+        }
+        return pops;
+    }
+
+    /**
+     * pushes every element and then pops all of them
+     *
+     * @param arity the arity of the heap
+     * @param keys  the elements to push
+     * @return the number of pops, so that the work can't be optimised away
+     */
+    private static long popHeavy(int arity, Key[] keys) {
+        PriorityQueue<Key> queue = new PriorityQueue<>(COMPARATOR, arity);
+        for (Key key : keys) {
+            queue.push(key);
+        }
+        long pops = 0;
+        while (!queue.empty()) {
+            queue.pop();
+            pops++;
+        }
+        return pops;
+    }
+
+    /**
+     * runs one mix for every arity and prints the best time of the rounds
+     *
+     * @param name     the name of the mix
+     * @param pushHeavy true for the push-heavy mix, false for the pop-heavy one
+     * @param keys     the elements to push
+     * @param rounds   the number of measured rounds, after as many warm up rounds
+     */
+    private static void run(String name, boolean pushHeavy, Key[] keys, int rounds) {
+        for (int arity : ARITIES) {
+            long best = Long.MAX_VALUE;
+            long check = 0;
+            for (int r = 0; r < 2 * rounds; r++) {
+                long start = System.nanoTime();
+                check += pushHeavy ? pushHeavy(arity, keys) : popHeavy(arity, keys);
+                long time = System.nanoTime() - start;
+                if (r >= rounds) {
+                    best = Math.min(best, time);
+                }
+            }
+            System.out.printf("%-10s arity %d: %8.1f ms (%d pops)%n", name, arity, best / 1e6, check / (2L * rounds));
+        }
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Random random = new Random(42);
+        Key[] keys = new Key[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = new Key(random.nextDouble());
+        }
+        System.out.println("PriorityQueue with " + size + " elements, best of " + rounds + " rounds");
+        run("push-heavy", true, keys, rounds);
+        run("pop-heavy", false, keys, rounds);
+    }
+}
@@ -1,6 +1,11 @@
 package PriorityQueue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -163,6 +168,136 @@ public class PriorityQueueTest {
         assertEquals("1 2 8 10 ", queue.toString());
     }
 
+    /**
+     * tests that decreaseKey moves the new element up and rejects a lower priority
+     */
+    @Test
+    public void testDecreaseKey() {
+        queue = new PriorityQueue<>(new ComparInt());
+        queue.push(5);
+        queue.push(2);
+        queue.push(8);
+        queue.push(10);
+        assertTrue(queue.decreaseKey(10, 1));
+        assertEquals("1 2 8 5 ", queue.toString());
+        assertFalse(queue.contains(10));
+        assertFalse(queue.decreaseKey(8, 9));
+        assertFalse(queue.decreaseKey(8, 5));
+        assertEquals(4, queue.size());
+    }
+
+    /**
+     * tests that increaseKey moves the new element down and rejects an higher priority
+     */
+    @Test
+    public void testIncreaseKey() {
+        queue = new PriorityQueue<>(new ComparInt());
+        queue.push(5);
+        queue.push(2);
+        queue.push(8);
+        queue.push(10);
+        assertTrue(queue.increaseKey(2, 12));
+        assertEquals("5 10 8 12 ", queue.toString());
+        assertFalse(queue.increaseKey(5, 1));
+        assertEquals(5, queue.top().intValue());
+    }
+
+    /**
+     * tests that the queue stays consistent after many removes of inner elements
+     */
+    @Test
+    public void testRemoveInner() {
+        queue = new PriorityQueue<>(new ComparInt());
+        for (int i = 20; i > 0; i--) {
+            queue.push(i);
+        }
+        for (int i = 2; i <= 20; i += 2) {
+            assertTrue(queue.remove(i));
+        }
+        assertFalse(queue.remove(2));
+        for (int i = 1; i <= 20; i += 2) {
+            assertEquals(i, queue.top().intValue());
+            queue.pop();
+        }
+        assertTrue(queue.empty());
+    }
+
+    /**
+     * tests that the heaps with arity 4 and 8 give the elements in the same order of the binary heap
+     */
+    @Test
+    public void testArity() {
+        Random random = new Random(3);
+        for (int arity : new int[]{4, 8}) {
+            PriorityQueue<Integer> binary = new PriorityQueue<>(new ComparInt());
+            queue = new PriorityQueue<>(new ComparInt(), arity);
+            for (int i = 0; i < 500; i++) {
+                int e = random.nextInt(10000);
+                assertEquals(binary.push(e), queue.push(e));
+            }
+            for (int i = 0; i < 100; i++) {
+                int e = random.nextInt(10000);
+                assertEquals(binary.remove(e), queue.remove(e));
+            }
+            while (!binary.empty()) {
+                assertEquals(binary.top(), queue.top());
+                binary.pop();
+                queue.pop();
+            }
+            assertTrue(queue.empty());
+        }
+    }
+
+    /**
+     * tests that an arity different from 2, 4 and 8 is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongArity() {
+        queue = new PriorityQueue<>(new ComparInt(), 3);
+    }
+
+    /**
+     * tests that the constructor with a collection builds a valid heap
+     */
+    @Test
+    public void testBuildFromCollection() {
+        queue = new PriorityQueue<>(new ComparInt(), Arrays.asList(5, 2, 8, 1, 9, 3));
+        assertEquals(6, queue.size());
+        assertEquals("1 2 3 5 9 8 ", queue.toString());
+        assertTrue(queue.contains(9));
+        assertTrue(queue.remove(2));
+        assertEquals(1, queue.top().intValue());
+    }
+
+    /**
+     * tests that pushAll skips duplicates and nulls and keeps the order of the elements
+     */
+    @Test
+    public void testPushAll() {
+        Random random = new Random(5);
+        for (int arity : new int[]{2, 4, 8}) {
+            queue = new PriorityQueue<>(new ComparInt(), arity);
+            queue.push(7);
+            List<Integer> batch = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                batch.add(random.nextInt(1000));
+            }
+            batch.add(7);
+            batch.add(null);
+            assertFalse(queue.pushAll(batch));
+            assertTrue(queue.pushAll(Arrays.asList(1000, 1001)));
+            int last = -1;
+            int count = 0;
+            while (!queue.empty()) {
+                assertTrue(queue.top() > last);
+                last = queue.top();
+                assertTrue(queue.remove(last));
+                count++;
+            }
+            assertEquals(new HashSet<>(batch).size() + 1, count);
+        }
+    }
+
     /**
      * ComparInt is a class that implements Comparator<Integer>
      */
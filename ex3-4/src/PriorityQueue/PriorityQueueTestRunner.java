@@ -5,11 +5,11 @@ import org.junit.runner.Result;
 import org.junit.runner.notification.Failure;
 
 /**
- * PriorityQueueTestRunner is a class that run the test of PriorityQueueTest
+ * PriorityQueueTestRunner is a class that run the tests of the queues
  */
 public class PriorityQueueTestRunner {
     public static void main(String[] args) {
-        Result result = JUnitCore.runClasses(PriorityQueueTest.class);
+        Result result = JUnitCore.runClasses(PriorityQueueTest.class, IntDoubleHeapTest.class, PairingHeapTest.class, BucketQueueTest.class, ConcurrentPriorityQueueTest.class);
         for (Failure failure : result.getFailures()) {
             System.out.println(failure.toString());
         }